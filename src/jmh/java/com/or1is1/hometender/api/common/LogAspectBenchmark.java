@@ -0,0 +1,51 @@
+package com.or1is1.hometender.api.common;
+
+import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+// 도메인 호출 하나에 LogAspect 가 더하는 비용, direct 와 proxied 의 차이를 본다
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class LogAspectBenchmark {
+
+	@Param({"0", "0.1", "1"})
+	private double sampleRate;
+
+	private AsyncLogWriter asyncLogWriter;
+	private Ingredient ingredient;
+	private Ingredient proxiedIngredient;
+
+	@Setup
+	public void setUp() {
+		asyncLogWriter = new AsyncLogWriter(8192, 256);
+		asyncLogWriter.start();
+
+		ingredient = new Ingredient(1L);
+		ingredient.put("name", "description", 40);
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(ingredient);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new LogAspect(asyncLogWriter, sampleRate));
+		proxiedIngredient = proxyFactory.getProxy();
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		asyncLogWriter.stop();
+	}
+
+	@Benchmark
+	public String direct() {
+		return ingredient.getName();
+	}
+
+	@Benchmark
+	public String proxied() {
+		return proxiedIngredient.getName();
+	}
+}
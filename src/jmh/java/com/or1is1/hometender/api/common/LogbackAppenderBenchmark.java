@@ -0,0 +1,78 @@
+package com.or1is1.hometender.api.common;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+// logback-spring.xml 의 prod 설정(JSON 파일 + AsyncAppender)과 동기 파일 출력의 요청 스레드 비용 비교
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class LogbackAppenderBenchmark {
+
+	@Param({"sync", "async"})
+	private String mode;
+
+	private LoggerContext loggerContext;
+	private Logger logger;
+	private Path logFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		loggerContext = new LoggerContext();
+		logFile = Files.createTempFile("hometender-benchmark", ".json");
+
+		JsonEncoder encoder = new JsonEncoder();
+		encoder.setContext(loggerContext);
+		encoder.start();
+
+		FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+		fileAppender.setContext(loggerContext);
+		fileAppender.setFile(logFile.toString());
+		fileAppender.setEncoder(encoder);
+		fileAppender.start();
+
+		Appender<ILoggingEvent> appender = fileAppender;
+
+		if (mode.equals("async")) {
+			AsyncAppender asyncAppender = new AsyncAppender();
+			asyncAppender.setContext(loggerContext);
+			asyncAppender.setQueueSize(8192);
+			asyncAppender.setDiscardingThreshold(819);
+			asyncAppender.setNeverBlock(true);
+			asyncAppender.setIncludeCallerData(false);
+			asyncAppender.addAppender(fileAppender);
+			asyncAppender.start();
+
+			appender = asyncAppender;
+		}
+
+		logger = loggerContext.getLogger(LogbackAppenderBenchmark.class);
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		loggerContext.stop();
+		Files.deleteIfExists(logFile);
+	}
+
+	@Benchmark
+	public void info() {
+		logger.info("event=call method={} elapsedUs={}", "RecipeService.getList(..)", 123);
+	}
+}
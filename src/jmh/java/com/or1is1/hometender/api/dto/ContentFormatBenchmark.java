@@ -0,0 +1,128 @@
+package com.or1is1.hometender.api.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.or1is1.hometender.api.common.ContentFormat;
+import com.or1is1.hometender.api.configuration.ObjectMapperConfig;
+import com.or1is1.hometender.api.common.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.or1is1.hometender.api.common.ErrorCode.MEMBER_NEED_TO_LOGIN;
+import static com.or1is1.hometender.api.domain.recipe.CraftMethod.SHAKE;
+import static com.or1is1.hometender.api.domain.recipe.SizeType.ML;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.AuxCounters.Type.EVENTS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+// 같은 DTO 를 JSON, CBOR, Smile 로 인코딩/디코딩하는 비용
+// 인코딩 크기는 encode 결과의 보조 지표(bytes / calls)로 results.json 에 남는다
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContentFormatBenchmark {
+
+	@Param({"JSON", "CBOR", "SMILE"})
+	private ContentFormat format;
+
+	@Param({"10", "100"})
+	private int recipeCount;
+
+	private ObjectWriter recipeDtoListWriter;
+	private ObjectReader recipeDtoListReader;
+	private ObjectWriter getRecipeListResponseListWriter;
+	private ObjectReader getRecipeListResponseListReader;
+	private ObjectWriter errorResponseWriter;
+
+	private List<RecipeDto> recipeDtoList;
+	private List<GetRecipeListResponse> getRecipeListResponseList;
+	private ErrorResponse errorResponse;
+
+	private byte[] recipeDtoListBytes;
+	private byte[] getRecipeListResponseListBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		ObjectMapper objectMapper = format.mapper(new ObjectMapperConfig().objectMapper());
+		TypeReference<List<RecipeDto>> recipeDtoListType = new TypeReference<>() {
+		};
+		TypeReference<List<GetRecipeListResponse>> getRecipeListResponseListType = new TypeReference<>() {
+		};
+
+		recipeDtoListWriter = objectMapper.writerFor(recipeDtoListType);
+		recipeDtoListReader = objectMapper.readerFor(recipeDtoListType);
+		getRecipeListResponseListWriter = objectMapper.writerFor(getRecipeListResponseListType);
+		getRecipeListResponseListReader = objectMapper.readerFor(getRecipeListResponseListType);
+		errorResponseWriter = objectMapper.writerFor(ErrorResponse.class);
+
+		recipeDtoList = IntStream.range(0, recipeCount)
+				.mapToObj(ContentFormatBenchmark::recipeDto)
+				.toList();
+		getRecipeListResponseList = recipeDtoList.stream()
+				.map(recipeDto -> new GetRecipeListResponse(recipeDto.name(), recipeDto.description(), recipeDto.craftMethod(), null))
+				.toList();
+		errorResponse = new ErrorResponse(MEMBER_NEED_TO_LOGIN, "로그인이 필요합니다.");
+
+		recipeDtoListBytes = recipeDtoListWriter.writeValueAsBytes(recipeDtoList);
+		getRecipeListResponseListBytes = getRecipeListResponseListWriter.writeValueAsBytes(getRecipeListResponseList);
+	}
+
+	@Benchmark
+	public byte[] encodeRecipeDtoList(EncodedSize encodedSize) throws IOException {
+		return encodedSize.record(recipeDtoListWriter.writeValueAsBytes(recipeDtoList));
+	}
+
+	@Benchmark
+	public List<RecipeDto> decodeRecipeDtoList() throws IOException {
+		return recipeDtoListReader.readValue(recipeDtoListBytes);
+	}
+
+	@Benchmark
+	public byte[] encodeGetRecipeListResponseList(EncodedSize encodedSize) throws IOException {
+		return encodedSize.record(getRecipeListResponseListWriter.writeValueAsBytes(getRecipeListResponseList));
+	}
+
+	@Benchmark
+	public List<GetRecipeListResponse> decodeGetRecipeListResponseList() throws IOException {
+		return getRecipeListResponseListReader.readValue(getRecipeListResponseListBytes);
+	}
+
+	@Benchmark
+	public byte[] encodeErrorResponse(EncodedSize encodedSize) throws IOException {
+		return encodedSize.record(errorResponseWriter.writeValueAsBytes(errorResponse));
+	}
+
+	// 반복마다 인코딩한 바이트와 횟수, bytes / calls 가 한 번 인코딩한 크기다
+	@State(Scope.Thread)
+	@AuxCounters(EVENTS)
+	public static class EncodedSize {
+		public long bytes;
+		public long calls;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+			calls = 0;
+		}
+
+		private byte[] record(byte[] encoded) {
+			bytes += encoded.length;
+			calls++;
+
+			return encoded;
+		}
+	}
+
+	private static RecipeDto recipeDto(int i) {
+		List<RecipeIngredientDto> recipeIngredientDtoList = IntStream.range(0, 5)
+				.mapToObj(j -> new RecipeIngredientDto((long) j, "ingredient" + j, 40, 30, ML, false))
+				.toList();
+
+		return new RecipeDto("recipe" + i, "description" + i, SHAKE, recipeIngredientDtoList, "manual" + i);
+	}
+}
@@ -0,0 +1,81 @@
+package com.or1is1.hometender.api.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.configuration.ObjectMapperConfig;
+import com.or1is1.hometender.api.domain.member.Member;
+import com.or1is1.hometender.api.domain.recipe.Recipe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.or1is1.hometender.api.domain.recipe.CraftMethod.SHAKE;
+import static com.or1is1.hometender.api.domain.recipe.SizeType.ML;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+// 레시피 목록/상세 응답의 DTO 변환과 직렬화 비용
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecipeDtoBenchmark {
+
+	@Param({"10", "100"})
+	private int recipeCount;
+
+	@Param({"5"})
+	private int ingredientCount;
+
+	private ObjectMapper objectMapper;
+	private List<Recipe> recipeList;
+	private List<RecipeDto> recipeDtoList;
+	private List<GetRecipeListResponse> getRecipeListResponseList;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapperConfig().objectMapper();
+		recipeList = new ArrayList<>();
+		Member writer = new Member(1L);
+
+		for (int i = 0; i < recipeCount; i++) {
+			List<RecipeIngredientDto> recipeIngredientDtoList = IntStream.range(0, ingredientCount)
+					.mapToObj(j -> new RecipeIngredientDto((long) j, null, 0, 30, ML, false))
+					.toList();
+
+			Recipe recipe = new Recipe(writer, "recipe" + i, "description" + i, SHAKE, recipeIngredientDtoList, "manual" + i);
+			recipe.getRecipeIngredientList()
+					.forEach(recipeIngredient -> recipeIngredient.getIngredient().put("ingredient", "description", 40));
+
+			recipeList.add(recipe);
+		}
+
+		recipeDtoList = toRecipeDtoList();
+		getRecipeListResponseList = toGetRecipeListResponseList();
+	}
+
+	@Benchmark
+	public List<RecipeDto> toRecipeDtoList() {
+		return recipeList.stream()
+				.map(RecipeDto::new)
+				.toList();
+	}
+
+	@Benchmark
+	public List<GetRecipeListResponse> toGetRecipeListResponseList() {
+		return recipeList.stream()
+				.map(GetRecipeListResponse::new)
+				.toList();
+	}
+
+	@Benchmark
+	public byte[] serializeRecipeDtoList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(recipeDtoList);
+	}
+
+	@Benchmark
+	public byte[] serializeGetRecipeListResponseList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(getRecipeListResponseList);
+	}
+}
@@ -0,0 +1,21 @@
+package com.or1is1.hometender.api.filter;
+
+import org.openjdk.jmh.annotations.*;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+// 모든 요청이 거치는 화이트리스트 검사
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class LoginCheckFilterBenchmark {
+
+	@Param({"/api/members/login", "/swagger-ui/index.html", "/api/recipes/12345"})
+	private String requestURI;
+
+	@Benchmark
+	public boolean isWhitelisted() {
+		return LoginCheckFilter.isWhitelisted(requestURI);
+	}
+}
@@ -0,0 +1,126 @@
+package com.or1is1.hometender.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// 엔드포인트별 지연 시간(마이크로초) 히스토그램과 오류 수
+public class LatencyRecorder {
+	private static final long HIGHEST_TRACKABLE_MICROS = MINUTES.toMicros(1);
+	private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+	private static final String[] PERCENTILE_NAMES = {"p50Ms", "p95Ms", "p99Ms", "p999Ms"};
+
+	private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+	private volatile boolean recording;
+
+	public void record(String endpoint, long elapsedNanos, boolean success) {
+		if (!recording) {
+			return;
+		}
+
+		Endpoint recorder = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+		long micros = Math.min(NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+
+		recorder.histogram.recordValue(micros);
+
+		if (!success) {
+			recorder.errors.increment();
+		}
+	}
+
+	// 워밍업이 끝나면 그 동안의 기록을 버리고 측정을 시작한다
+	public void start() {
+		endpoints.values().forEach(Endpoint::reset);
+		recording = true;
+	}
+
+	public void stop() {
+		recording = false;
+	}
+
+	public void print(PrintStream out, double elapsedSeconds) {
+		out.printf("%-32s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+				"endpoint", "count", "rps", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+		new TreeMap<>(endpoints).forEach((name, endpoint) -> {
+			Histogram histogram = endpoint.histogram;
+
+			out.printf("%-32s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+					name, histogram.getTotalCount(), histogram.getTotalCount() / elapsedSeconds, endpoint.errors.sum(),
+					millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+					millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+					millis(histogram.getMaxValue()));
+		});
+	}
+
+	// 커밋 간 비교용
+	public void writeJson(Path output, LoadTestConfig config, double elapsedSeconds, Map<String, Object> server)
+			throws IOException {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("baseUrl", config.baseUrl().toString());
+		result.put("concurrency", config.concurrency());
+		result.put("durationSeconds", elapsedSeconds);
+		result.put("mix", config.mix());
+
+		Map<String, Object> endpointResults = new TreeMap<>();
+
+		endpoints.forEach((name, endpoint) -> {
+			Histogram histogram = endpoint.histogram;
+			Map<String, Object> endpointResult = new LinkedHashMap<>();
+
+			endpointResult.put("count", histogram.getTotalCount());
+			endpointResult.put("rps", histogram.getTotalCount() / elapsedSeconds);
+			endpointResult.put("errors", endpoint.errors.sum());
+			endpointResult.put("meanMs", histogram.getMean() / 1000.0);
+
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				endpointResult.put(PERCENTILE_NAMES[i], millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+			}
+
+			endpointResult.put("maxMs", millis(histogram.getMaxValue()));
+			endpointResults.put(name, endpointResult);
+		});
+
+		result.put("server", server);
+		result.put("endpoints", endpointResults);
+
+		Path parent = output.toAbsolutePath().getParent();
+
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+	}
+
+	public long totalErrors() {
+		return endpoints.values().stream().mapToLong(endpoint -> endpoint.errors.sum()).sum();
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static class Endpoint {
+		private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		private final LongAdder errors = new LongAdder();
+
+		void reset() {
+			histogram.reset();
+			errors.reset();
+		}
+	}
+}
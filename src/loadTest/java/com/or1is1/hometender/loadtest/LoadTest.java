@@ -0,0 +1,89 @@
+package com.or1is1.hometender.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 실행 중인 서버에 시나리오 비율대로 요청을 보내고 엔드포인트별 처리량과 지연 시간 분포를 남긴다
+// ./gradlew loadTest -PloadTest.baseUrl=http://localhost:8080 -PloadTest.concurrency=32
+// 한 IP 에서 요청을 보내므로 서버는 hometender.rate-limit.enabled=false 로 띄운다
+// 최대 동시 처리 수를 잴 때는 hometender.concurrency-limit.enabled=false 도 함께, 켜 두면 한도를 넘는 요청은 503 으로 실패에 잡힌다
+public class LoadTest {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+		LatencyRecorder recorder = new LatencyRecorder();
+		ObjectMapper objectMapper = new ObjectMapper();
+		String runId = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+
+		System.out.printf("baseUrl=%s concurrency=%d warmup=%s duration=%s mix=%s%n",
+				config.baseUrl(), config.concurrency(), config.warmup(), config.duration(), config.mix());
+
+		List<VirtualUser> users = new ArrayList<>();
+
+		for (int i = 0; i < config.concurrency(); i++) {
+			VirtualUser user = new VirtualUser(config.baseUrl(), recorder, objectMapper, "lt" + runId + "u" + i);
+			user.signUp();
+			users.add(user);
+		}
+
+		long end = System.nanoTime() + config.warmup().toNanos() + config.duration().toNanos();
+		Scenario[] wheel = toWheel(config.mix());
+		ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (VirtualUser user : users) {
+			futures.add(executor.submit(() -> {
+				while (System.nanoTime() < end) {
+					user.run(wheel[ThreadLocalRandom.current().nextInt(wheel.length)]);
+				}
+
+				return null;
+			}));
+		}
+
+		ServerSampler serverSampler = new ServerSampler(config.managementUrl());
+
+		try {
+			Thread.sleep(config.warmup().toMillis());
+			recorder.start();
+			serverSampler.start();
+			long measureStart = System.nanoTime();
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+
+			recorder.stop();
+			serverSampler.stop();
+			double elapsedSeconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+
+			recorder.print(System.out, elapsedSeconds);
+			System.out.println("server=" + serverSampler.result());
+			recorder.writeJson(config.output(), config, elapsedSeconds, serverSampler.result());
+			System.out.printf("result=%s errors=%d%n", config.output().toAbsolutePath(), recorder.totalErrors());
+		} finally {
+			serverSampler.stop();
+			executor.shutdownNow();
+		}
+	}
+
+	// 가중치만큼 시나리오를 채운 배열에서 무작위로 고른다
+	private static Scenario[] toWheel(Map<Scenario, Integer> mix) {
+		List<Scenario> wheel = new ArrayList<>();
+
+		mix.forEach((scenario, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				wheel.add(scenario);
+			}
+		});
+
+		return wheel.toArray(Scenario[]::new);
+	}
+}
@@ -0,0 +1,50 @@
+package com.or1is1.hometender.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// -D 시스템 프로퍼티로 받는다, gradle 에서는 -PloadTest.xxx=... 로 넘긴다
+public record LoadTestConfig(
+		URI baseUrl,
+		URI managementUrl,
+		int concurrency,
+		Duration warmup,
+		Duration duration,
+		Map<Scenario, Integer> mix,
+		Path output
+) {
+	public static LoadTestConfig fromSystemProperties() {
+		return new LoadTestConfig(
+				URI.create(System.getProperty("loadTest.baseUrl", "http://localhost:8080")),
+				URI.create(System.getProperty("loadTest.managementUrl", "http://localhost:8081")),
+				Integer.getInteger("loadTest.concurrency", 16),
+				Duration.parse(System.getProperty("loadTest.warmup", "PT10S")),
+				Duration.parse(System.getProperty("loadTest.duration", "PT60S")),
+				parseMix(System.getProperty("loadTest.mix", "login=5,browse=60,ingredient=10,recipe=10,toggle=15")),
+				Path.of(System.getProperty("loadTest.output", "build/reports/loadTest/result.json"))
+		);
+	}
+
+	// login=5,browse=60,... 형식, 빠진 시나리오는 실행하지 않는다
+	static Map<Scenario, Integer> parseMix(String mix) {
+		Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+
+		for (String entry : mix.split(",")) {
+			String[] keyValue = entry.trim().split("=");
+			int weight = Integer.parseInt(keyValue[1].trim());
+
+			if (weight > 0) {
+				weights.put(Scenario.valueOf(keyValue[0].trim().toUpperCase()), weight);
+			}
+		}
+
+		if (weights.isEmpty()) {
+			throw new IllegalArgumentException("loadTest.mix has no positive weight: " + mix);
+		}
+
+		return weights;
+	}
+}
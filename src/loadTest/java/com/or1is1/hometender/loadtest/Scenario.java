@@ -0,0 +1,9 @@
+package com.or1is1.hometender.loadtest;
+
+public enum Scenario {
+	LOGIN,       // 로그아웃 후 다시 로그인
+	BROWSE,      // 재료, 레시피, 즐겨찾기, 선반 목록과 상세 조회
+	INGREDIENT,  // 재료 등록, 수정, 삭제
+	RECIPE,      // 재료 5~15개짜리 레시피 등록
+	TOGGLE       // 즐겨찾기, 선반 추가/삭제
+}
@@ -0,0 +1,97 @@
+package com.or1is1.hometender.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// 측정 중 1초마다 관리 포트의 /actuator/prometheus 를 읽어 서버 쪽 최대값을 남긴다
+// 플랫폼 스레드 모드와 가상 스레드 모드의 동시 처리 요청 수, 스레드 수, 요청당 힙 사용량 비교에 쓴다
+public class ServerSampler {
+	private static final String IN_FLIGHT = "http_server_requests_active_seconds_active_count";
+	private static final String LIVE_THREADS = "jvm_threads_live_threads";
+	private static final String HEAP_USED = "jvm_memory_used_bytes{area=\"heap\"";
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private final HttpRequest request;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private volatile double maxInFlight;
+	private volatile double maxLiveThreads;
+	private volatile double maxHeapUsed;
+	private volatile boolean available = true;
+
+	public ServerSampler(URI managementUrl) {
+		this.request = HttpRequest.newBuilder(managementUrl.resolve("/actuator/prometheus")).GET().build();
+	}
+
+	public void start() {
+		scheduler.scheduleAtFixedRate(this::sample, 0, 1, SECONDS);
+	}
+
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	public Map<String, Object> result() {
+		Map<String, Object> result = new LinkedHashMap<>();
+
+		if (!available) {
+			return result;
+		}
+
+		result.put("maxInFlight", maxInFlight);
+		result.put("maxLiveThreads", maxLiveThreads);
+		result.put("maxHeapUsedMb", maxHeapUsed / 1024 / 1024);
+
+		if (maxInFlight > 0) {
+			result.put("heapUsedKbPerInFlight", maxHeapUsed / 1024 / maxInFlight);
+		}
+
+		return result;
+	}
+
+	private void sample() {
+		if (!available) {
+			return;
+		}
+
+		try {
+			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+			if (response.statusCode() != 200) {
+				available = false;
+				return;
+			}
+
+			double inFlight = 0;
+			double liveThreads = 0;
+			double heapUsed = 0;
+
+			for (String line : response.body().split("\n")) {
+				if (line.startsWith(IN_FLIGHT)) {
+					inFlight += value(line);
+				} else if (line.startsWith(LIVE_THREADS)) {
+					liveThreads += value(line);
+				} else if (line.startsWith(HEAP_USED)) {
+					heapUsed += value(line);
+				}
+			}
+
+			maxInFlight = Math.max(maxInFlight, inFlight);
+			maxLiveThreads = Math.max(maxLiveThreads, liveThreads);
+			maxHeapUsed = Math.max(maxHeapUsed, heapUsed);
+		} catch (Exception ex) {
+			available = false;
+		}
+	}
+
+	private static double value(String line) {
+		return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+	}
+}
@@ -0,0 +1,180 @@
+package com.or1is1.hometender.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// 시작 방식별로 서버를 여러 번 새로 띄워 첫 요청 성공까지의 시간과 그 시점의 RSS 를 잰다
+// jar: 기존 fat jar, aot: AOT 초기화, aot-cds: AOT 초기화 + CDS 아카이브 (컨테이너 이미지와 같은 방식)
+// ./gradlew startupBenchmark -Pstartup.runs=10
+// 아카이브가 없으면 Dockerfile 과 같은 학습 실행으로 먼저 만든다, RSS 는 /proc 가 있는 리눅스에서만 잰다
+public class StartupBenchmark {
+	private static final List<String> COMMON_ARGS = List.of("-Dhometender.rate-limit.enabled=false", "-Dhometender.id.node=0");
+	private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+	public static void main(String[] args) throws Exception {
+		Path bootJar = Path.of(System.getProperty("startup.bootJar"));
+		Path cdsDir = Path.of(System.getProperty("startup.cdsDir"));
+		int runs = Integer.getInteger("startup.runs", 5);
+		Path output = Path.of(System.getProperty("startup.output", "build/reports/startup/result.json"));
+
+		Path applicationJar = cdsDir.resolve("application.jar");
+		Path archive = cdsDir.resolve("application.jsa");
+
+		if (!Files.exists(archive)) {
+			train(applicationJar, archive);
+		}
+
+		Map<String, List<String>> modes = new LinkedHashMap<>();
+		modes.put("jar", List.of("-jar", bootJar.toString()));
+		modes.put("aot", List.of("-Dspring.aot.enabled=true", "-jar", applicationJar.toString()));
+		modes.put("aot-cds", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+				"-jar", applicationJar.toString()));
+
+		Map<String, Object> result = new LinkedHashMap<>();
+
+		for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+			long[] firstRequestMillis = new long[runs];
+			long[] rssKb = new long[runs];
+
+			for (int i = 0; i < runs; i++) {
+				long[] sample = measure(mode.getValue());
+				firstRequestMillis[i] = sample[0];
+				rssKb[i] = sample[1];
+			}
+
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("firstRequestMillis", summarize(firstRequestMillis));
+			summary.put("rssMb", rssKb[0] < 0 ? null : summarize(Arrays.stream(rssKb).map(kb -> kb / 1024).toArray()));
+			result.put(mode.getKey(), summary);
+
+			System.out.printf("%-8s firstRequest(ms)=%s rss(MB)=%s%n", mode.getKey(),
+					summary.get("firstRequestMillis"), summary.get("rssMb"));
+		}
+
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(),
+				Map.of("java", Runtime.version().toString(), "runs", runs, "modes", result));
+		System.out.printf("result=%s%n", output.toAbsolutePath());
+	}
+
+	// 컨텍스트 refresh 직후 종료하며 그 사이 로드된 클래스를 아카이브에 남긴다
+	private static void train(Path applicationJar, Path archive) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive,
+				"-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh"));
+		command.addAll(COMMON_ARGS);
+		command.addAll(List.of("-jar", applicationJar.toString()));
+
+		Process process = new ProcessBuilder(command).inheritIO().start();
+
+		if (process.waitFor() != 0 || !Files.exists(archive)) {
+			throw new IllegalStateException("CDS training run failed: " + command);
+		}
+	}
+
+	// [첫 요청 성공까지 ms, 그 시점 RSS KB]
+	private static long[] measure(List<String> modeArgs) throws Exception {
+		int port = freePort();
+		int managementPort = freePort();
+		List<String> command = new ArrayList<>(List.of(java(), "-Dserver.port=" + port,
+				"-Dmanagement.server.port=" + managementPort));
+		command.addAll(COMMON_ARGS);
+		command.addAll(modeArgs);
+
+		HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/health"))
+				.timeout(Duration.ofSeconds(1))
+				.GET()
+				.build();
+
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+
+		try {
+			long deadline = start + STARTUP_TIMEOUT.toNanos();
+
+			while (System.nanoTime() < deadline) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException("server exited with " + process.exitValue() + ": " + command);
+				}
+
+				try {
+					if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+						long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+						return new long[]{elapsedMillis, rssKb(process.pid())};
+					}
+				} catch (IOException ex) {
+					// 아직 포트를 열지 않았다
+				}
+
+				Thread.sleep(10);
+			}
+
+			throw new IllegalStateException("server did not start within " + STARTUP_TIMEOUT + ": " + command);
+		} finally {
+			process.destroy();
+
+			if (!process.waitFor(10, SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		}
+	}
+
+	private static long rssKb(long pid) throws IOException {
+		Path status = Path.of("/proc", Long.toString(pid), "status");
+
+		if (!Files.exists(status)) {
+			return -1;
+		}
+
+		for (String line : Files.readAllLines(status)) {
+			if (line.startsWith("VmRSS:")) {
+				return Long.parseLong(line.replaceAll("\\D", ""));
+			}
+		}
+
+		return -1;
+	}
+
+	private static Map<String, Long> summarize(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Map<String, Long> summary = new LinkedHashMap<>();
+		summary.put("min", sorted[0]);
+		summary.put("median", sorted[sorted.length / 2]);
+		summary.put("max", sorted[sorted.length - 1]);
+
+		return summary;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static String java() {
+		return ProcessHandle.current().info().command().orElse("java");
+	}
+}
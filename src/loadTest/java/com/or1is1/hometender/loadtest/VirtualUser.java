@@ -0,0 +1,196 @@
+package com.or1is1.hometender.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.net.http.HttpRequest.BodyPublishers.noBody;
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+
+// 회원 한 명, 세션 쿠키를 따로 가진다
+public class VirtualUser {
+	private static final String[] CRAFT_METHODS = {"SHAKE", "BUILD", "FLOAT"};
+	private static final String[] SIZE_TYPES = {"ML", "OZ"};
+
+	private final URI baseUrl;
+	private final LatencyRecorder recorder;
+	private final ObjectMapper objectMapper;
+	private final HttpClient httpClient;
+	private final String loginId;
+	private final String password = "password!";
+	private final List<Long> ingredientIds = new ArrayList<>();
+	private final List<Long> recipeIds = new ArrayList<>();
+
+	public VirtualUser(URI baseUrl, LatencyRecorder recorder, ObjectMapper objectMapper, String loginId) {
+		this.baseUrl = baseUrl;
+		this.recorder = recorder;
+		this.objectMapper = objectMapper;
+		this.loginId = loginId;
+		this.httpClient = HttpClient.newBuilder()
+				.cookieHandler(new CookieManager())
+				.build();
+	}
+
+	// 회원가입 후 레시피에 쓸 재료를 미리 만들어 둔다
+	public void signUp() throws IOException, InterruptedException {
+		HttpResponse<String> response = send("POST /api/members", "POST", "/api/members",
+				Map.of("loginId", loginId, "password", password, "nickname", "loadTest"));
+
+		if (response.statusCode() >= 400) {
+			throw new IllegalStateException("sign up failed: " + response.statusCode() + " " + response.body());
+		}
+
+		for (int i = 0; i < 15; i++) {
+			postIngredient();
+		}
+	}
+
+	public void run(Scenario scenario) throws IOException, InterruptedException {
+		switch (scenario) {
+			case LOGIN -> login();
+			case BROWSE -> browse();
+			case INGREDIENT -> ingredient();
+			case RECIPE -> postRecipe();
+			case TOGGLE -> toggle();
+		}
+	}
+
+	private void login() throws IOException, InterruptedException {
+		send("POST /api/members/logout", "POST", "/api/members/logout", null);
+		send("POST /api/members/login", "POST", "/api/members/login", Map.of("loginId", loginId, "password", password));
+	}
+
+	private void browse() throws IOException, InterruptedException {
+		send("GET /api/ingredients", "GET", "/api/ingredients", null);
+		send("GET /api/ingredients/{id}", "GET", "/api/ingredients/" + pick(ingredientIds), null);
+		send("GET /api/recipe", "GET", "/api/recipe", null);
+
+		if (!recipeIds.isEmpty()) {
+			send("GET /api/recipe/{id}", "GET", "/api/recipe/" + pick(recipeIds), null);
+		}
+
+		send("GET /api/bookmark", "GET", "/api/bookmark", null);
+		send("GET /api/shelf", "GET", "/api/shelf", null);
+	}
+
+	private void ingredient() throws IOException, InterruptedException {
+		Long ingredientId = postIngredient();
+
+		if (ingredientId == null) {
+			return;
+		}
+
+		send("PUT /api/ingredients/{id}", "PUT", "/api/ingredients/" + ingredientId, ingredientBody());
+		send("DELETE /api/ingredients/{id}", "DELETE", "/api/ingredients/" + ingredientId, null);
+		ingredientIds.remove(ingredientId);
+	}
+
+	private void postRecipe() throws IOException, InterruptedException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int ingredientCount = random.nextInt(5, 16);
+		List<Map<String, Object>> recipeIngredientList = new ArrayList<>();
+
+		for (int i = 0; i < ingredientCount; i++) {
+			recipeIngredientList.add(Map.of(
+					"ingredientId", pick(ingredientIds),
+					"size", random.nextInt(1, 60),
+					"sizeType", SIZE_TYPES[random.nextInt(SIZE_TYPES.length)],
+					"isOption", random.nextInt(5) == 0
+			));
+		}
+
+		Map<String, Object> recipe = Map.of(
+				"name", "recipe" + random.nextInt(1_000_000),
+				"description", "load test recipe",
+				"craftMethod", CRAFT_METHODS[random.nextInt(CRAFT_METHODS.length)],
+				"recipeIngredientList", recipeIngredientList,
+				"manual", "stir and serve"
+		);
+
+		Long recipeId = parseId(send("POST /api/recipe", "POST", "/api/recipe", recipe));
+
+		if (recipeId != null) {
+			recipeIds.add(recipeId);
+		}
+	}
+
+	private void toggle() throws IOException, InterruptedException {
+		if (!recipeIds.isEmpty()) {
+			Long recipeId = pick(recipeIds);
+
+			send("POST /api/bookmark/{id}", "POST", "/api/bookmark/" + recipeId, null);
+			send("DELETE /api/bookmark/{id}", "DELETE", "/api/bookmark/" + recipeId, null);
+		}
+
+		Long ingredientId = pick(ingredientIds);
+
+		send("POST /api/shelf/{id}", "POST", "/api/shelf/" + ingredientId, null);
+		send("DELETE /api/shelf/{id}", "DELETE", "/api/shelf/" + ingredientId, null);
+	}
+
+	private Long postIngredient() throws IOException, InterruptedException {
+		Long ingredientId = parseId(send("POST /api/ingredients", "POST", "/api/ingredients", ingredientBody()));
+
+		if (ingredientId != null) {
+			ingredientIds.add(ingredientId);
+		}
+
+		return ingredientId;
+	}
+
+	private Map<String, Object> ingredientBody() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		return Map.of(
+				"name", "ingredient" + random.nextInt(1_000_000),
+				"description", "load test ingredient",
+				"volume", random.nextInt(0, 60)
+		);
+	}
+
+	private HttpResponse<String> send(String endpoint, String method, String path, Object body)
+			throws IOException, InterruptedException {
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path));
+
+		if (body == null) {
+			builder.method(method, noBody());
+		} else {
+			builder.header("Content-Type", "application/json")
+					.method(method, ofString(objectMapper.writeValueAsString(body)));
+		}
+
+		long start = System.nanoTime();
+		HttpResponse<String> response = null;
+
+		try {
+			response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+
+			return response;
+		} finally {
+			boolean success = response != null && response.statusCode() < 400;
+			recorder.record(endpoint, System.nanoTime() - start, success);
+		}
+	}
+
+	private static Long parseId(HttpResponse<String> response) {
+		if (response.statusCode() >= 400 || response.body().isBlank()) {
+			return null;
+		}
+
+		return Long.valueOf(response.body().trim());
+	}
+
+	private static Long pick(List<Long> ids) {
+		return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+	}
+}
@@ -0,0 +1,162 @@
+package com.or1is1.hometender.api.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.Signature;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.or1is1.hometender.api.common.StringConst.REQUEST_UUID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// 요청 스레드는 인자와 반환값을 문자열로 만들어 링 버퍼에 넣기만 하고, 출력은 별도 스레드가 맡는다
+// 문자열 변환을 미루면 그 사이 요청 스레드가 객체를 바꾸거나 영속성 컨텍스트가 닫혀 지연 로딩이 실패한다
+// 요청 스레드의 비용을 묶기 위해 컬렉션, 맵, 배열은 원소를 문자열로 만들지 않고 종류와 크기만 남긴다
+@Component
+@Slf4j
+public class AsyncLogWriter {
+	private static final long IDLE_PARK_NANOS = MILLISECONDS.toNanos(5);
+	private static final Logger eventLog = LoggerFactory.getLogger(LogAspect.class);
+
+	private final LogRingBuffer<LogEvent> ringBuffer;
+	private final int maxPayloadLength;
+	private final Thread worker;
+	private volatile boolean running = true;
+	private long reportedDropped;
+
+	public AsyncLogWriter(@Value("${hometender.log.buffer-size}") int bufferSize,
+	                      @Value("${hometender.log.max-payload-length}") int maxPayloadLength) {
+
+		this.ringBuffer = new LogRingBuffer<>(bufferSize);
+		this.maxPayloadLength = maxPayloadLength;
+		this.worker = new Thread(this::drainLoop, "async-log-writer");
+		this.worker.setDaemon(true);
+	}
+
+	@PostConstruct
+	public void start() {
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(worker);
+		worker.join(1000);
+	}
+
+	// 호출한 스레드에서 문자열로 만든다
+	public void write(String requestUuId, Signature signature, Object[] args, Object returnValue, Throwable error,
+	                  long elapsedNanos) {
+
+		ringBuffer.offer(new LogEvent(requestUuId, signature.toShortString(), format(args),
+				error == null ? format(returnValue) : null, error == null ? null : format(error.getMessage()),
+				elapsedNanos));
+	}
+
+	private void drainLoop() {
+		while (running) {
+			if (!drain()) {
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+			}
+		}
+
+		drain();
+	}
+
+	private boolean drain() {
+		boolean drained = false;
+		LogEvent logEvent;
+
+		while ((logEvent = ringBuffer.poll()) != null) {
+			drained = true;
+
+			try {
+				print(logEvent);
+			} catch (RuntimeException ex) {
+				log.warn("failed to write log event of {}", logEvent.method(), ex);
+			}
+		}
+
+		long dropped = ringBuffer.getDropped();
+
+		if (dropped != reportedDropped) {
+			log.warn("event=dropped count={}", dropped - reportedDropped);
+			reportedDropped = dropped;
+		}
+
+		return drained;
+	}
+
+	private void print(LogEvent logEvent) {
+		MDC.put(REQUEST_UUID, logEvent.requestUuId());
+
+		try {
+			long elapsedMicros = logEvent.elapsedNanos() / 1000;
+
+			if (logEvent.error() == null) {
+				eventLog.info("event=call method={} elapsedUs={} args={} return={}",
+						logEvent.method(), elapsedMicros, logEvent.args(), logEvent.returnValue());
+			} else {
+				eventLog.error("event=error method={} elapsedUs={} args={} error={}",
+						logEvent.method(), elapsedMicros, logEvent.args(), logEvent.error());
+			}
+		} finally {
+			MDC.remove(REQUEST_UUID);
+		}
+	}
+
+	private String format(Object[] args) {
+		StringBuilder stringBuilder = new StringBuilder("[");
+
+		for (int i = 0; i < args.length; i++) {
+			if (i > 0) {
+				stringBuilder.append(", ");
+			}
+			stringBuilder.append(format(args[i]));
+		}
+
+		return stringBuilder.append(']').toString();
+	}
+
+	private String format(Object value) {
+		if (value == null) {
+			return "null";
+		}
+
+		// 지연 로딩된 컬렉션은 크기를 세느라 읽어 오지 않는다
+		if (!Hibernate.isInitialized(value)) {
+			return value.getClass().getSimpleName() + "(uninitialized)";
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return value.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+		}
+
+		if (value instanceof Map<?, ?> map) {
+			return value.getClass().getSimpleName() + "(size=" + map.size() + ")";
+		}
+
+		if (value.getClass().isArray()) {
+			return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+		}
+
+		CharSequence chars = value instanceof CharSequence charSequence ? charSequence : value.toString();
+
+		if (chars.length() <= maxPayloadLength) {
+			return chars.toString();
+		}
+
+		return chars.subSequence(0, maxPayloadLength) + "...(" + chars.length() + " chars)";
+	}
+}
@@ -0,0 +1,68 @@
+package com.or1is1.hometender.api.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 2차 캐시 영역별 적중률, hibernate.generate_statistics=true (stats 프로필) 일 때만 등록한다
+@Component
+public class CacheMetrics {
+	public static final List<String> REGIONS = List.of("ingredient", "recipe", "recipe.recipeIngredientList", "recipeIngredient");
+
+	private final Statistics statistics;
+	private final MeterRegistry meterRegistry;
+
+	public CacheMetrics(EntityManagerFactory entityManagerFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.meterRegistry = meterRegistry.getIfUnique(() -> Metrics.globalRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void register() {
+		// 통계가 꺼져 있으면 값이 0 으로만 남아 적중률이 없는 것처럼 보인다
+		if (!statistics.isStatisticsEnabled()) {
+			return;
+		}
+
+		for (String region : REGIONS) {
+			FunctionCounter.builder("hometender.cache.hits", region, r -> regionStatistics(r).getHitCount())
+					.tag("region", region)
+					.register(meterRegistry);
+			FunctionCounter.builder("hometender.cache.misses", region, r -> regionStatistics(r).getMissCount())
+					.tag("region", region)
+					.register(meterRegistry);
+			FunctionCounter.builder("hometender.cache.puts", region, r -> regionStatistics(r).getPutCount())
+					.tag("region", region)
+					.register(meterRegistry);
+			Gauge.builder("hometender.cache.hit.ratio", region, this::hitRatio)
+					.tag("region", region)
+					.register(meterRegistry);
+			Gauge.builder("hometender.cache.size", region, r -> regionStatistics(r).getElementCountInMemory())
+					.tag("region", region)
+					.register(meterRegistry);
+		}
+	}
+
+	private double hitRatio(String region) {
+		CacheRegionStatistics regionStatistics = regionStatistics(region);
+		long hits = regionStatistics.getHitCount();
+		long total = hits + regionStatistics.getMissCount();
+
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	private CacheRegionStatistics regionStatistics(String region) {
+		return statistics.getDomainDataRegionStatistics(region);
+	}
+}
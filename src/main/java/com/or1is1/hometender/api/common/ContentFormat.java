@@ -0,0 +1,86 @@
+package com.or1is1.hometender.api.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+// 응답 본문 인코딩, 같은 DTO 를 JSON(기본) 또는 바이너리(CBOR, Smile)로 내려준다
+@Getter
+@RequiredArgsConstructor
+public enum ContentFormat {
+	JSON(APPLICATION_JSON, JsonFactory::new),
+	CBOR(APPLICATION_CBOR, CBORFactory::new),
+	SMILE(new MediaType("application", "x-jackson-smile"), SmileFactory::new),
+
+	;
+
+	private final MediaType mediaType;
+	private final Supplier<JsonFactory> factory;
+
+	// 설정(모듈, feature)은 그대로 두고 인코딩만 바꾼다
+	public ObjectMapper mapper(ObjectMapper objectMapper) {
+		return this == JSON ? objectMapper : objectMapper.copyWith(factory.get());
+	}
+
+	// Accept 의 q 값이 높은 순으로 처음 맞는 형식, 없거나 잘못된 헤더면 JSON
+	// q=0 은 받지 않겠다는 뜻이다, 형식마다 가장 구체적으로 맞는 범위의 q 가 0 이면 고르지 않는다
+	public static ContentFormat negotiate(String accept) {
+		if (accept == null || accept.isBlank()) {
+			return JSON;
+		}
+
+		List<MediaType> acceptList;
+
+		try {
+			acceptList = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		} catch (InvalidMediaTypeException ex) {
+			return JSON;
+		}
+
+		acceptList.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+		for (MediaType acceptable : acceptList) {
+			if (acceptable.getQualityValue() == 0) {
+				break;
+			}
+
+			for (ContentFormat format : values()) {
+				if (acceptable.includes(format.mediaType) && format.quality(acceptList) > 0) {
+					return format;
+				}
+			}
+		}
+
+		return JSON;
+	}
+
+	// application/cbor;q=0 은 */* 보다 구체적이므로 */* 가 있어도 CBOR 를 고르지 않는다
+	private double quality(List<MediaType> acceptList) {
+		MediaType mostSpecific = null;
+
+		for (MediaType acceptable : acceptList) {
+			if (acceptable.includes(mediaType) && (mostSpecific == null || specificity(acceptable) > specificity(mostSpecific))) {
+				mostSpecific = acceptable;
+			}
+		}
+
+		return mostSpecific == null ? 0 : mostSpecific.getQualityValue();
+	}
+
+	private static int specificity(MediaType mediaType) {
+		return (mediaType.isWildcardType() ? 0 : 1) + (mediaType.isWildcardSubtype() ? 0 : 1);
+	}
+}
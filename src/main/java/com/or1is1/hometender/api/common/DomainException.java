@@ -15,7 +15,23 @@ public class DomainException extends RuntimeException {
 
 	public static final DomainException RECIPE_CAN_NOT_FIND_EXCEPTION = new DomainException(RECIPE_CAN_NOT_FIND);
 	public static final DomainException RECIPE_IS_NOT_MINE_EXCEPTION = new DomainException(RECIPE_IS_NOT_MINE);
+	public static final DomainException RECIPE_IS_IN_USE_EXCEPTION = new DomainException(RECIPE_IS_IN_USE);
 	public static final DomainException RECIPE_INGREDIENT_IS_EMPTY_EXCEPTION = new DomainException(RECIPE_INGREDIENT_IS_EMPTY);
+	public static final DomainException RECIPE_INGREDIENT_IS_INVALID_EXCEPTION = new DomainException(RECIPE_INGREDIENT_IS_INVALID);
+	public static final DomainException RECIPE_INGREDIENT_IS_CIRCULAR_EXCEPTION = new DomainException(RECIPE_INGREDIENT_IS_CIRCULAR);
+
+	public static final DomainException RECIPE_IMAGE_CAN_NOT_FIND_EXCEPTION = new DomainException(RECIPE_IMAGE_CAN_NOT_FIND);
+	public static final DomainException RECIPE_IMAGE_IS_INVALID_EXCEPTION = new DomainException(RECIPE_IMAGE_IS_INVALID);
+	public static final DomainException RECIPE_IMAGE_TOO_LARGE_EXCEPTION = new DomainException(RECIPE_IMAGE_TOO_LARGE);
+
+	public static final DomainException BOOKMARK_ALREADY_EXISTS_EXCEPTION = new DomainException(BOOKMARK_ALREADY_EXISTS);
+
+	public static final DomainException SHELF_ALREADY_EXISTS_EXCEPTION = new DomainException(SHELF_ALREADY_EXISTS);
+
+	public static final DomainException REQUEST_TOO_MANY_EXCEPTION = new DomainException(REQUEST_TOO_MANY);
+
+	public static final DomainException BATCH_TOO_MANY_EXCEPTION = new DomainException(BATCH_TOO_MANY);
+	public static final DomainException BATCH_IS_INVALID_EXCEPTION = new DomainException(BATCH_IS_INVALID);
 
 	private final ErrorCode code;
 
@@ -23,8 +39,9 @@ public class DomainException extends RuntimeException {
 		this.code = code;
 	}
 
+	// 스택 트레이스를 만들지 않으므로 잠글 상태도 없다, synchronized 는 가상 스레드를 캐리어에 고정시킨다
 	@Override
-	public synchronized Throwable fillInStackTrace() {
+	public Throwable fillInStackTrace() {
 		return this;
 	}
 }
@@ -1,9 +1,12 @@
 package com.or1is1.hometender.api.common;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,6 +17,7 @@ import java.util.List;
 
 import static java.util.Locale.KOREAN;
 import static lombok.AccessLevel.PROTECTED;
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 @RestControllerAdvice(basePackages = "com.or1is1.hometender.api.domain")
@@ -22,6 +26,7 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 public class DomainExceptionHandler {
 
 	private final MessageSource messageSource;
+	private final ErrorResponses errorResponses;
 
 	@ExceptionHandler
 	@ResponseStatus(BAD_REQUEST)
@@ -43,24 +48,9 @@ public class DomainExceptionHandler {
 	}
 
 	@ExceptionHandler
-	@ResponseStatus(BAD_REQUEST)
-	public ErrorResponse memberNeedLoginException(DomainException ex) {
-
-		ErrorCode code = ex.getCode();
-
-		String message = switch (code) {
-			case MEMBER_NEED_TO_LOGIN -> messageSource.getMessage("exception.member.needToLogin", null, KOREAN);
-			case MEMBER_ALREADY_EXISTS -> messageSource.getMessage("exception.member.alreadyExists", null, KOREAN);
-			case MEMBER_CAN_NOT_FIND -> messageSource.getMessage("exception.member.canNotFound", null, KOREAN);
-
-			case INGREDIENT_CAN_NOT_FIND -> messageSource.getMessage("exception.ingredient.canNotFound", null, KOREAN);
-			case INGREDIENT_IS_NOT_MINE -> messageSource.getMessage("exception.ingredient.isNotMine", null, KOREAN);
-
-			case RECIPE_CAN_NOT_FIND -> messageSource.getMessage("exception.recipe.cantNotFind", null, KOREAN);
-			case RECIPE_IS_NOT_MINE -> messageSource.getMessage("exception.recipe.isNotMine", null, KOREAN);
-			case RECIPE_INGREDIENT_IS_EMPTY -> messageSource.getMessage("exception.recipe.ingredientIsEmpty", null, KOREAN);
-		};
+	public ResponseEntity<byte[]> memberNeedLoginException(DomainException ex, HttpServletRequest request) {
 
-		return new ErrorResponse(code, message);
+		return errorResponses.toResponseEntity(BAD_REQUEST, ex.getCode(), LocaleContextHolder.getLocale(),
+				request.getHeader(ACCEPT));
 	}
 }
@@ -0,0 +1,55 @@
+package com.or1is1.hometender.api.common;
+
+import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import com.or1is1.hometender.api.domain.recipe.Recipe;
+import com.or1is1.hometender.api.domain.recipe.RecipeExpansionResolver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 벌크 삭제처럼 Hibernate 가 2차 캐시를 직접 갱신하지 못하는 변경을 위해, 커밋 후에 명시적으로 비운다
+// 레시피 전개 캐시도 함께 비운다, 바뀐 레시피나 재료를 쓰는 레시피까지
+@Component
+public class EntityCacheEvictor {
+	public static final String RECIPE_INGREDIENT_LIST_ROLE = Recipe.class.getName() + ".recipeIngredientList";
+
+	private final Cache cache;
+	private final RecipeExpansionResolver recipeExpansionResolver;
+
+	public EntityCacheEvictor(EntityManagerFactory entityManagerFactory,
+	                          RecipeExpansionResolver recipeExpansionResolver) {
+		this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+		this.recipeExpansionResolver = recipeExpansionResolver;
+	}
+
+	public void evictIngredient(Long ingredientId) {
+		afterCommit(() -> {
+			cache.evictEntityData(Ingredient.class, ingredientId);
+			recipeExpansionResolver.invalidateIngredient(ingredientId);
+		});
+	}
+
+	public void evictRecipe(Long recipeId) {
+		afterCommit(() -> {
+			cache.evictEntityData(Recipe.class, recipeId);
+			cache.evictCollectionData(RECIPE_INGREDIENT_LIST_ROLE, recipeId);
+			recipeExpansionResolver.invalidateRecipe(recipeId);
+		});
+	}
+
+	private void afterCommit(Runnable eviction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eviction.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eviction.run();
+			}
+		});
+	}
+}
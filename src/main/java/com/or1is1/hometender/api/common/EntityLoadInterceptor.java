@@ -0,0 +1,19 @@
+package com.or1is1.hometender.api.common;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// 세션 팩토리 전체에서 공유되므로 상태를 갖지 않는다
+public class EntityLoadInterceptor implements Interceptor {
+
+	@Override
+	public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		RequestTiming requestTiming = RequestTiming.current();
+
+		if (requestTiming != null) {
+			requestTiming.addEntityLoad();
+		}
+
+		return false;
+	}
+}
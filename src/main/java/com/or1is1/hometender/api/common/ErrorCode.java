@@ -1,6 +1,7 @@
 package com.or1is1.hometender.api.common;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import static com.or1is1.hometender.api.common.ErrorCode.Domain.*;
@@ -8,30 +9,54 @@ import static com.or1is1.hometender.api.common.ErrorCode.Reason.*;
 
 @RequiredArgsConstructor
 public enum ErrorCode {
-	MEMBER_NEED_TO_LOGIN(MEMBER + NEED_TO_LOGIN),
-	MEMBER_ALREADY_EXISTS(MEMBER + ALREADY_EXISTS),
-	MEMBER_CAN_NOT_FIND(MEMBER + CAN_NOT_FIND),
+	MEMBER_NEED_TO_LOGIN(MEMBER + NEED_TO_LOGIN, "exception.member.needToLogin"),
+	MEMBER_ALREADY_EXISTS(MEMBER + ALREADY_EXISTS, "exception.member.alreadyExists"),
+	MEMBER_CAN_NOT_FIND(MEMBER + CAN_NOT_FIND, "exception.member.canNotFound"),
 
-	INGREDIENT_CAN_NOT_FIND(INGREDIENT + CAN_NOT_FIND),
-	INGREDIENT_IS_NOT_MINE(INGREDIENT + IS_NOT_MINE),
+	INGREDIENT_CAN_NOT_FIND(INGREDIENT + CAN_NOT_FIND, "exception.ingredient.canNotFound"),
+	INGREDIENT_IS_NOT_MINE(INGREDIENT + IS_NOT_MINE, "exception.ingredient.isNotMine"),
 
 
-	RECIPE_CAN_NOT_FIND(RECIPE + CAN_NOT_FIND),
-	RECIPE_IS_NOT_MINE(RECIPE + IS_NOT_MINE),
+	RECIPE_CAN_NOT_FIND(RECIPE + CAN_NOT_FIND, "exception.recipe.cantNotFind"),
+	RECIPE_IS_NOT_MINE(RECIPE + IS_NOT_MINE, "exception.recipe.isNotMine"),
+	RECIPE_IS_IN_USE(RECIPE + IS_IN_USE, "exception.recipe.isInUse"),
 
-	RECIPE_INGREDIENT_IS_EMPTY(RECIPE_INGREDIENT + IS_EMPTY),
+	RECIPE_INGREDIENT_IS_EMPTY(RECIPE_INGREDIENT + IS_EMPTY, "exception.recipe.ingredientIsEmpty"),
+	RECIPE_INGREDIENT_IS_INVALID(RECIPE_INGREDIENT + IS_INVALID, "exception.recipe.ingredientIsInvalid"),
+	RECIPE_INGREDIENT_IS_CIRCULAR(RECIPE_INGREDIENT + IS_CIRCULAR, "exception.recipe.ingredientIsCircular"),
+
+	RECIPE_IMAGE_CAN_NOT_FIND(RECIPE_IMAGE + CAN_NOT_FIND, "exception.recipe.image.canNotFind"),
+	RECIPE_IMAGE_IS_INVALID(RECIPE_IMAGE + IS_INVALID, "exception.recipe.image.isInvalid"),
+	RECIPE_IMAGE_TOO_LARGE(RECIPE_IMAGE + TOO_LARGE, "exception.recipe.image.tooLarge"),
+
+	BOOKMARK_ALREADY_EXISTS(BOOKMARK + ALREADY_EXISTS, "exception.bookmark.alreadyExists"),
+
+	SHELF_ALREADY_EXISTS(SHELF + ALREADY_EXISTS, "exception.shelf.alreadyExists"),
+
+	REQUEST_TOO_MANY(REQUEST + TOO_MANY, "exception.request.tooMany"),
+	REQUEST_OVERLOADED(REQUEST + OVERLOADED, "exception.request.overloaded"),
+
+	BATCH_TOO_MANY(BATCH + TOO_MANY, "exception.batch.tooMany"),
+	BATCH_IS_INVALID(BATCH + IS_INVALID, "exception.batch.isInvalid"),
 
 	;
 
 	@JsonValue
 	private final String code;
 
+	@Getter
+	private final String messageKey;
+
 	protected static class Domain {
 		static final String MEMBER = "000";
 		static final String INGREDIENT = "001";
 		static final String RECIPE = "002";
 		static final String RECIPE_INGREDIENT = "003";
 		static final String BOOKMARK = "004";
+		static final String REQUEST = "005";
+		static final String BATCH = "006";
+		static final String RECIPE_IMAGE = "007";
+		static final String SHELF = "008";
 	}
 
 	protected static class Reason {
@@ -40,5 +65,11 @@ public enum ErrorCode {
 		static final String CAN_NOT_FIND = "002";
 		static final String IS_NOT_MINE = "003";
 		static final String IS_EMPTY = "004";
+		static final String TOO_MANY = "005";
+		static final String IS_INVALID = "006";
+		static final String TOO_LARGE = "007";
+		static final String IS_CIRCULAR = "008";
+		static final String IS_IN_USE = "009";
+		static final String OVERLOADED = "010";
 	}
 }
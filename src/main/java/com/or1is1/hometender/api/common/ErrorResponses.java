@@ -0,0 +1,130 @@
+package com.or1is1.hometender.api.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.KOREAN;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+// 모든 ErrorCode x 지원 언어의 오류 응답을 미리 만들고 ContentFormat 마다 인코딩해 둔다
+@Component
+public class ErrorResponses {
+	public static final List<Locale> SUPPORTED_LOCALES = List.of(KOREAN);
+	public static final MediaType APPLICATION_JSON_UTF8 = new MediaType(APPLICATION_JSON, UTF_8);
+
+	private final MessageSource messageSource;
+	private final EnumMap<ContentFormat, ObjectMapper> mappers = new EnumMap<>(ContentFormat.class);
+	private final RequestMetrics requestMetrics;
+	private volatile Map<Locale, EnumMap<ErrorCode, Encoded>> encodedByLocale;
+
+	public ErrorResponses(MessageSource messageSource, ObjectMapper objectMapper, RequestMetrics requestMetrics)
+			throws JsonProcessingException {
+		this.messageSource = messageSource;
+		for (ContentFormat format : ContentFormat.values()) {
+			mappers.put(format, format.mapper(objectMapper));
+		}
+
+		this.requestMetrics = requestMetrics;
+		reload();
+	}
+
+	// 메시지 번들이 다시 읽히는 시점(컨텍스트 refresh)마다 다시 만든다
+	@EventListener(ContextRefreshedEvent.class)
+	public void reload() throws JsonProcessingException {
+		Map<Locale, EnumMap<ErrorCode, Encoded>> reloaded = new HashMap<>();
+
+		for (Locale locale : SUPPORTED_LOCALES) {
+			EnumMap<ErrorCode, Encoded> encodedByCode = new EnumMap<>(ErrorCode.class);
+
+			for (ErrorCode code : ErrorCode.values()) {
+				String message = messageSource.getMessage(code.getMessageKey(), null, locale);
+				ErrorResponse errorResponse = new ErrorResponse(code, message);
+
+				EnumMap<ContentFormat, byte[]> bodies = new EnumMap<>(ContentFormat.class);
+
+				for (ContentFormat format : ContentFormat.values()) {
+					bodies.put(format, mappers.get(format).writeValueAsBytes(errorResponse));
+				}
+
+				encodedByCode.put(code, new Encoded(errorResponse, bodies));
+			}
+
+			reloaded.put(locale, encodedByCode);
+		}
+
+		encodedByLocale = reloaded;
+	}
+
+	public ErrorResponse get(ErrorCode code, Locale locale) {
+		return encoded(code, locale).errorResponse();
+	}
+
+	public ResponseEntity<byte[]> toResponseEntity(HttpStatus status, ErrorCode code, Locale locale, String accept) {
+		ContentFormat format = ContentFormat.negotiate(accept);
+		requestMetrics.countError(code);
+
+		return ResponseEntity.status(status)
+				.contentType(contentType(format))
+				.body(encoded(code, locale).bodies().get(format));
+	}
+
+	public void write(HttpServletRequest request, HttpServletResponse response, int status, ErrorCode code)
+			throws IOException {
+
+		ContentFormat format = ContentFormat.negotiate(request.getHeader(ACCEPT));
+		byte[] body = encoded(code, request.getLocale()).bodies().get(format);
+		requestMetrics.countError(code);
+
+		response.setStatus(status);
+		response.setContentType(contentType(format).toString());
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private static MediaType contentType(ContentFormat format) {
+		return format == ContentFormat.JSON ? APPLICATION_JSON_UTF8 : format.getMediaType();
+	}
+
+	private Encoded encoded(ErrorCode code, Locale locale) {
+		Map<Locale, EnumMap<ErrorCode, Encoded>> encoded = encodedByLocale;
+		EnumMap<ErrorCode, Encoded> encodedByCode = encoded.get(resolve(locale));
+
+		return encodedByCode.get(code);
+	}
+
+	private Locale resolve(Locale locale) {
+		if (locale != null) {
+			for (Locale supported : SUPPORTED_LOCALES) {
+				if (supported.getLanguage().equals(locale.getLanguage())) {
+					return supported;
+				}
+			}
+		}
+
+		return SUPPORTED_LOCALES.get(0);
+	}
+
+	private record Encoded(
+			ErrorResponse errorResponse,
+			EnumMap<ContentFormat, byte[]> bodies
+	) {
+	}
+}
@@ -0,0 +1,51 @@
+package com.or1is1.hometender.api.common;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// ?fields=name,description 처럼 응답에 담을 필드, 없으면 전부 담는다
+// 응답은 @JsonFilter(Fields.FILTER_ID) 가 붙은 DTO 에서 걸러지고, 서비스는 요청되지 않은 연관관계를 조회하지 않는다
+public final class Fields {
+	public static final String PARAMETER = "fields";
+	public static final String FILTER_ID = "fields";
+	public static final Fields ALL = new Fields(null);
+
+	private final Set<String> names; // null 이면 전부
+
+	private Fields(Set<String> names) {
+		this.names = names;
+	}
+
+	public static Fields parse(String fields) {
+		if (fields == null || fields.isBlank()) {
+			return ALL;
+		}
+
+		return new Fields(Arrays.stream(fields.split(","))
+				.map(String::trim)
+				.filter(name -> !name.isEmpty())
+				.collect(Collectors.toUnmodifiableSet()));
+	}
+
+	public boolean includes(String name) {
+		return names == null || names.contains(name);
+	}
+
+	public FilterProvider toFilterProvider() {
+		SimpleBeanPropertyFilter filter = names == null
+				? SimpleBeanPropertyFilter.serializeAll()
+				: SimpleBeanPropertyFilter.filterOutAllExcept(names);
+
+		return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+	}
+
+	// 필터를 지정하지 않은 직렬화(요청 본문, 오류 응답, 벤치마크)는 전부 담는다
+	public static FilterProvider defaultFilterProvider() {
+		return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+	}
+}
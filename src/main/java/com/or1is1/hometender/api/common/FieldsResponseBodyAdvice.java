@@ -0,0 +1,29 @@
+package com.or1is1.hometender.api.common;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+// fields 파라미터가 있으면 JSON, CBOR, Smile 응답에 필드 필터를 건다
+@RestControllerAdvice(basePackages = "com.or1is1.hometender.api.domain")
+public class FieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+	@Override
+	protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+	                                       MethodParameter returnType, ServerHttpRequest request,
+	                                       ServerHttpResponse response) {
+
+		if (request instanceof ServletServerHttpRequest servletServerHttpRequest) {
+			String fields = servletServerHttpRequest.getServletRequest().getParameter(Fields.PARAMETER);
+
+			if (fields != null) {
+				bodyContainer.setFilters(Fields.parse(fields).toFilterProvider());
+			}
+		}
+	}
+}
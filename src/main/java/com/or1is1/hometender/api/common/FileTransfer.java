@@ -0,0 +1,133 @@
+package com.or1is1.hometender.api.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static jakarta.servlet.http.HttpServletResponse.*;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.springframework.http.HttpHeaders.*;
+
+// 파일을 힙에 올리지 않고 보낸다
+// Tomcat 이 sendfile 을 지원하면 응답 본문을 쓰지 않고 파일 구간만 넘겨 커널이 소켓으로 바로 복사하게 한다
+// 아니면(묶음 요청 등) FileChannel.transferTo 로 나눠 보낸다
+// Range 는 구간 하나만 처리한다, 여러 구간을 요청하면 전체를 보낸다
+public class FileTransfer {
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private FileTransfer() {
+	}
+
+	public static void write(HttpServletRequest request, HttpServletResponse response,
+	                         Path file, MediaType contentType, String etag) throws IOException {
+
+		String quotedEtag = "\"" + etag + "\"";
+		long length = Files.size(file);
+
+		response.setHeader(ETAG, quotedEtag);
+		response.setHeader(ACCEPT_RANGES, "bytes");
+		response.setHeader(CACHE_CONTROL, "private, no-cache");
+
+		if (matches(request.getHeader(IF_NONE_MATCH), quotedEtag)) {
+			response.setStatus(SC_NOT_MODIFIED);
+
+			return;
+		}
+
+		long start = 0;
+		long end = length - 1;
+		String range = request.getHeader(RANGE);
+
+		// If-Range 가 다르면 파일이 바뀐 것이므로 전체를 보낸다
+		if (range != null && length > 0 && ifRangeMatches(request.getHeader(IF_RANGE), quotedEtag)) {
+			List<HttpRange> ranges = parseRanges(range);
+
+			if (ranges.size() == 1) {
+				try {
+					start = ranges.get(0).getRangeStart(length);
+					end = ranges.get(0).getRangeEnd(length);
+				} catch (IllegalArgumentException ex) {
+					response.setHeader(CONTENT_RANGE, "bytes */" + length);
+					response.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+
+					return;
+				}
+
+				response.setStatus(SC_PARTIAL_CONTENT);
+				response.setHeader(CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+			}
+		}
+
+		long count = end - start + 1;
+		response.setContentType(contentType.toString());
+		response.setContentLengthLong(count);
+
+		if ("HEAD".equals(request.getMethod()) || count <= 0) {
+			return;
+		}
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+
+			while (count > 0) {
+				long transferred = channel.transferTo(position, count, out);
+
+				if (transferred <= 0) {
+					break;
+				}
+
+				position += transferred;
+				count -= transferred;
+			}
+		}
+	}
+
+	private static List<HttpRange> parseRanges(String range) {
+		try {
+			return HttpRange.parseRanges(range);
+		} catch (IllegalArgumentException ex) {
+			return List.of();
+		}
+	}
+
+	private static boolean matches(String ifNoneMatch, String quotedEtag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+
+			if (trimmed.equals("*") || trimmed.equals(quotedEtag) || trimmed.equals("W/" + quotedEtag)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean ifRangeMatches(String ifRange, String quotedEtag) {
+		return ifRange == null || ifRange.trim().equals(quotedEtag);
+	}
+}
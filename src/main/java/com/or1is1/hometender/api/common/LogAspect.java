@@ -1,42 +1,70 @@
 package com.or1is1.hometender.api.common;
 
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.or1is1.hometender.api.common.StringConst.REQUEST_UUID;
 
 @Component
 @Aspect
 @Slf4j
 public class LogAspect {
+	// 예외가 바깥 호출로 올라가며 중첩된 호출마다 다시 남지 않도록, 오류는 가장 바깥 호출에서만 남긴다
+	private static final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+	private final AsyncLogWriter asyncLogWriter;
+	private final double sampleRate;
+
+	public LogAspect(AsyncLogWriter asyncLogWriter,
+	                 @Value("${hometender.log.sample-rate}") double sampleRate) {
+
+		this.asyncLogWriter = asyncLogWriter;
+		this.sampleRate = sampleRate;
+	}
 
 	@Pointcut("within(com.or1is1.hometender.api.domain..*)") // 패키지 범위 설정
 	public void domain() {
 	}
 
-	@Before("domain()")
-	public void beforeRequest(JoinPoint joinPoint) {
-		log.info("###Start request {}", joinPoint.getSignature().toShortString());
-		Arrays.stream(joinPoint.getArgs())
-				.map(Object::toString)
-				.map(str -> "\t" + str)
-				.forEach(log::info);
-	}
+	// 로그가 꺼져 있거나 샘플링되지 않은 호출은 아무것도 만들지 않고 그대로 진행한다
+	@Around("domain()")
+	public Object logging(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!log.isErrorEnabled()) {
+			return joinPoint.proceed();
+		}
 
-	@AfterReturning(pointcut = "domain()", returning = "returnValue")
-	public void afterReturningLogging(JoinPoint joinPoint, Object returnValue) {
-		log.info("###End request {}", joinPoint.getSignature().toShortString());
+		boolean sampled = log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate;
+		int[] callDepth = depth.get();
+		callDepth[0]++;
+		long start = System.nanoTime();
 
-		if (returnValue == null) return;
+		try {
+			Object returnValue = joinPoint.proceed();
 
-		log.info("\t{}", returnValue.toString());
-	}
+			if (sampled) {
+				asyncLogWriter.write(MDC.get(REQUEST_UUID), joinPoint.getSignature(), joinPoint.getArgs(),
+						returnValue, null, System.nanoTime() - start);
+			}
+
+			return returnValue;
+		} catch (Throwable e) {
+			// 오류는 샘플링하지 않는다
+			if (callDepth[0] == 1) {
+				asyncLogWriter.write(MDC.get(REQUEST_UUID), joinPoint.getSignature(), joinPoint.getArgs(),
+						null, e, System.nanoTime() - start);
+			}
 
-	@AfterThrowing(pointcut = "domain()", throwing = "e")
-	public void afterThrowingLogging(JoinPoint joinPoint, Exception e) {
-		log.error("###Occured error in request {}", joinPoint.getSignature().toShortString());
-		log.error("\t{}", e.getMessage());
+			throw e;
+		} finally {
+			callDepth[0]--;
+		}
 	}
 }
@@ -0,0 +1,12 @@
+package com.or1is1.hometender.api.common;
+
+// 요청 스레드에서 이미 문자열로 만든 값만 담는다, 엔티티처럼 바뀔 수 있는 객체를 다른 스레드로 넘기지 않는다
+public record LogEvent(
+		String requestUuId,
+		String method,
+		String args,
+		String returnValue,
+		String error,
+		long elapsedNanos
+) {
+}
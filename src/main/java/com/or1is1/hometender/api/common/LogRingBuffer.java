@@ -0,0 +1,76 @@
+package com.or1is1.hometender.api.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 여러 요청 스레드가 넣고 한 스레드가 꺼내는 고정 크기 링 버퍼, 가득 차면 버린다
+public class LogRingBuffer<E> {
+	private final int mask;
+	private final AtomicReferenceArray<E> buffer;
+	private final AtomicLongArray sequences;
+	private final AtomicLong enqueuePosition = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private long dequeuePosition; // 소비 스레드만 접근
+
+	public LogRingBuffer(int capacity) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+		}
+
+		this.mask = capacity - 1;
+		this.buffer = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	public boolean offer(E element) {
+		long position = enqueuePosition.get();
+
+		while (true) {
+			long difference = sequences.get((int) (position & mask)) - position;
+
+			if (difference == 0) {
+				if (enqueuePosition.compareAndSet(position, position + 1)) {
+					break;
+				}
+				position = enqueuePosition.get();
+			} else if (difference < 0) {
+				dropped.incrementAndGet();
+
+				return false;
+			} else {
+				position = enqueuePosition.get();
+			}
+		}
+
+		int index = (int) (position & mask);
+		buffer.set(index, element);
+		sequences.set(index, position + 1);
+
+		return true;
+	}
+
+	public E poll() {
+		long position = dequeuePosition;
+		int index = (int) (position & mask);
+
+		if (sequences.get(index) != position + 1) {
+			return null;
+		}
+
+		E element = buffer.get(index);
+		buffer.set(index, null);
+		sequences.set(index, position + mask + 1);
+		dequeuePosition = position + 1;
+
+		return element;
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+}
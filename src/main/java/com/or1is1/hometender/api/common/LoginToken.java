@@ -0,0 +1,8 @@
+package com.or1is1.hometender.api.common;
+
+public record LoginToken(
+		String tokenId,
+		Long memberId,
+		long expiresAt
+) {
+}
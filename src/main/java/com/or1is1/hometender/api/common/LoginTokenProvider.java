@@ -0,0 +1,179 @@
+package com.or1is1.hometender.api.common;
+
+import com.or1is1.hometender.api.domain.member.RevokedToken;
+import com.or1is1.hometender.api.domain.member.RevokedTokenRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.or1is1.hometender.api.common.StringConst.BEARER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+public class LoginTokenProvider {
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final long POLL_OVERLAP_MILLIS = 60_000; // 노드 간 시각 차이, replica 지연
+	private static final int MIN_SECRET_BYTES = 32; // HmacSHA256 의 출력 길이
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	@Getter
+	private final boolean enabled;
+	private final long ttlMillis;
+	private final SecretKeySpec secretKeySpec;
+	private final ConcurrentLinkedQueue<Mac> macPool = new ConcurrentLinkedQueue<>(); // 가상 스레드에서는 ThreadLocal 캐시가 재사용되지 않는다
+	private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>(); // 토큰 번호 -> 만료 시각
+	private final RevokedTokenRepository revokedTokenRepository;
+	private volatile long lastPolledAt;
+
+	public LoginTokenProvider(@Value("${hometender.auth.stateless}") boolean enabled,
+	                          @Value("${hometender.auth.token-secret}") String secret,
+	                          @Value("${hometender.auth.token-ttl}") Duration ttl,
+	                          RevokedTokenRepository revokedTokenRepository) {
+
+		this.enabled = enabled;
+		this.ttlMillis = ttl.toMillis();
+		this.revokedTokenRepository = revokedTokenRepository;
+
+		this.secretKeySpec = new SecretKeySpec(enabled ? sharedKey(secret) : randomKey(), ALGORITHM);
+	}
+
+	public String issue(Long memberId) {
+		String tokenId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+		byte[] payload = (memberId + ":" + expiresAt + ":" + tokenId).getBytes(UTF_8);
+
+		return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+	}
+
+	// 서명이 맞지 않거나, 만료되었거나, 폐기된 토큰이면 null
+	public LoginToken parse(String authorization) {
+		if (authorization == null || !authorization.startsWith(BEARER)) {
+			return null;
+		}
+
+		String token = authorization.substring(BEARER.length());
+		int dot = token.indexOf('.');
+
+		if (dot < 0) {
+			return null;
+		}
+
+		try {
+			byte[] payload = DECODER.decode(token.substring(0, dot));
+			byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+			if (!MessageDigest.isEqual(sign(payload), signature)) {
+				return null;
+			}
+
+			String[] fields = new String(payload, UTF_8).split(":");
+			LoginToken loginToken = new LoginToken(fields[2], Long.valueOf(fields[0]), Long.parseLong(fields[1]));
+
+			if (loginToken.expiresAt() <= System.currentTimeMillis() || isRevoked(loginToken)) {
+				return null;
+			}
+
+			return loginToken;
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+			return null;
+		}
+	}
+
+	// 이 노드는 바로 거부하고, 다른 노드는 revocation-poll-interval 안에 DB 에서 읽어 거부한다
+	public void revoke(LoginToken loginToken) {
+		revokedTokens.put(loginToken.tokenId(), loginToken.expiresAt());
+		revokedTokenRepository.save(new RevokedToken(loginToken.tokenId(), loginToken.expiresAt(), System.currentTimeMillis()));
+	}
+
+	// 처음에는 만료되지 않은 폐기 기록을 모두, 이후에는 지난번 이후(겹치게)의 기록만 읽는다
+	@Scheduled(fixedDelayString = "${hometender.auth.revocation-poll-interval}")
+	public void pollRevokedTokens() {
+		if (!enabled) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long since = lastPolledAt == 0 ? 0 : lastPolledAt - POLL_OVERLAP_MILLIS;
+
+		for (RevokedToken revokedToken : revokedTokenRepository.findByRevokedAtGreaterThanAndExpiresAtGreaterThan(since, now)) {
+			revokedTokens.put(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+		}
+
+		lastPolledAt = now;
+	}
+
+	// 만료 시각까지만 보관하면 되므로 폐기 목록의 크기는 TTL 동안의 로그아웃 수로 제한된다
+	@Scheduled(fixedDelayString = "${hometender.auth.revocation-sweep-interval}")
+	public void sweepRevokedTokens() {
+		long now = System.currentTimeMillis();
+		revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+		if (enabled) {
+			revokedTokenRepository.deleteExpired(now);
+		}
+	}
+
+	private boolean isRevoked(LoginToken loginToken) {
+		return !revokedTokens.isEmpty() && revokedTokens.containsKey(loginToken.tokenId());
+	}
+
+	private byte[] sign(byte[] payload) {
+		Mac mac = macPool.poll();
+
+		if (mac == null) {
+			mac = newMac();
+		}
+
+		try {
+			return mac.doFinal(payload);
+		} finally {
+			macPool.offer(mac);
+		}
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(secretKeySpec);
+
+			return mac;
+		} catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	// 노드마다 다른 키로 서명하면 한 노드에서 발급한 토큰을 다른 노드가 거부하므로, 비밀 값이 없으면 서버가 뜨지 않는다
+	private static byte[] sharedKey(String secret) {
+		byte[] key = secret.getBytes(UTF_8);
+
+		if (secret.isBlank() || key.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException(
+					"hometender.auth.token-secret must be at least " + MIN_SECRET_BYTES + " bytes when stateless auth is enabled");
+		}
+
+		return key;
+	}
+
+	// 세션 모드(테스트 포함)에서는 토큰을 쓰지 않는다
+	private static byte[] randomKey() {
+		byte[] key = new byte[MIN_SECRET_BYTES];
+		new SecureRandom().nextBytes(key);
+
+		return key;
+	}
+}
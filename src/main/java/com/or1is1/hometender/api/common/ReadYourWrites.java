@@ -0,0 +1,31 @@
+package com.or1is1.hometender.api.common;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓰기 직후 일정 시간 동안은 그 회원의 읽기를 primary 로 보내 복제 지연을 가린다, 노드별로 관리한다
+public class ReadYourWrites {
+	private static final int PRUNE_THRESHOLD = 10_000;
+
+	private final long windowNanos;
+	private final ConcurrentHashMap<Long, Long> lastWrites = new ConcurrentHashMap<>(); // 회원 번호 -> 마지막 쓰기 시각
+
+	public ReadYourWrites(Duration window) {
+		this.windowNanos = window.toNanos();
+	}
+
+	public void markWrite(Long memberId) {
+		long now = System.nanoTime();
+		lastWrites.put(memberId, now);
+
+		if (lastWrites.size() > PRUNE_THRESHOLD) {
+			lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+		}
+	}
+
+	public boolean isRecentWriter(Long memberId) {
+		Long writtenAt = lastWrites.get(memberId);
+
+		return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+	}
+}
@@ -0,0 +1,139 @@
+package com.or1is1.hometender.api.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+// @Transactional(readOnly = true) 는 replica 로, 나머지는 primary 로 보낸다
+// 트랜잭션의 readOnly 가 정해진 뒤에 연결을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 쓴다
+// 트랜잭션마다 연결을 새로 얻어야 하므로 OSIV(spring.jpa.open-in-view)는 끈다 (ReplicaRoutingIntegrationTest)
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+	public static final String PRIMARY = "primary";
+
+	private static final String WROTE_IN_REQUEST = ReplicaRoutingDataSource.class.getName() + ".wroteInRequest";
+
+	private final List<DataSource> replicas;
+	private final Balancing balancing;
+	private final ReadYourWrites readYourWrites;
+	private final Supplier<Long> currentMember;
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Balancing balancing,
+	                                ReadYourWrites readYourWrites, Supplier<Long> currentMember) {
+
+		this.replicas = replicas;
+		this.balancing = balancing;
+		this.readYourWrites = readYourWrites;
+		this.currentMember = currentMember;
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(PRIMARY, primary);
+
+		for (int i = 0; i < replicas.size(); i++) {
+			targetDataSources.put(i, replicas.get(i));
+		}
+
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		Long memberId = currentMember.get();
+
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			markWrite(memberId);
+
+			return PRIMARY;
+		}
+
+		if (wroteInRequest() || (memberId != null && readYourWrites.isRecentWriter(memberId))) {
+			return PRIMARY;
+		}
+
+		return selectReplica();
+	}
+
+	@Override
+	public void destroy() {
+		for (DataSource replica : replicas) {
+			if (replica instanceof HikariDataSource hikariDataSource) {
+				hikariDataSource.close();
+			}
+		}
+	}
+
+	private void markWrite(Long memberId) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		// 회원가입 직후 로그인처럼 같은 요청 안의 읽기
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(WROTE_IN_REQUEST, Boolean.TRUE, SCOPE_REQUEST);
+		}
+
+		if (memberId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					readYourWrites.markWrite(memberId);
+				}
+			});
+		}
+	}
+
+	private boolean wroteInRequest() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		return requestAttributes != null && requestAttributes.getAttribute(WROTE_IN_REQUEST, SCOPE_REQUEST) != null;
+	}
+
+	private int selectReplica() {
+		if (balancing == Balancing.ROUND_ROBIN || replicas.size() == 1) {
+			return Math.floorMod(next.getAndIncrement(), replicas.size());
+		}
+
+		int selected = 0;
+		int minActive = Integer.MAX_VALUE;
+
+		for (int i = 0; i < replicas.size(); i++) {
+			int active = activeConnections(replicas.get(i));
+
+			if (active < minActive) {
+				selected = i;
+				minActive = active;
+			}
+		}
+
+		return selected;
+	}
+
+	private static int activeConnections(DataSource dataSource) {
+		if (dataSource instanceof HikariDataSource hikariDataSource) {
+			HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+
+			return pool == null ? 0 : pool.getActiveConnections();
+		}
+
+		return 0;
+	}
+
+	public enum Balancing {
+		ROUND_ROBIN,
+		LEAST_LOADED
+	}
+}
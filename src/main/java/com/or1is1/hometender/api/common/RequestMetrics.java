@@ -0,0 +1,70 @@
+package com.or1is1.hometender.api.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// 컨트롤러 지연 시간, 요청당 SQL/엔티티 로드 수, 도메인 오류 수를 /actuator/prometheus 로 내보낸다
+@Component
+public class RequestMetrics {
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentHashMap<Method, Timer> controllerTimers = new ConcurrentHashMap<>();
+	private final EnumMap<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+	private final DistributionSummary sqlStatements;
+	private final DistributionSummary entityLoads;
+
+	// 슬라이스 테스트처럼 레지스트리가 없는 컨텍스트에서는 전역 레지스트리에 기록한다
+	public RequestMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry.getIfUnique(() -> Metrics.globalRegistry);
+
+		for (ErrorCode code : ErrorCode.values()) {
+			errorCounters.put(code, Counter.builder("hometender.domain.errors")
+					.tag("code", code.name())
+					.register(this.meterRegistry));
+		}
+
+		sqlStatements = DistributionSummary.builder("hometender.request.sql.statements")
+				.publishPercentileHistogram()
+				.register(this.meterRegistry);
+		entityLoads = DistributionSummary.builder("hometender.request.entity.loads")
+				.publishPercentileHistogram()
+				.register(this.meterRegistry);
+	}
+
+	public void recordController(Method method, long nanos) {
+		controllerTimers.computeIfAbsent(method, this::controllerTimer).record(nanos, NANOSECONDS);
+	}
+
+	public void recordRequest(RequestTiming requestTiming) {
+		sqlStatements.record(requestTiming.getSqlCount());
+		entityLoads.record(requestTiming.getEntityLoadCount());
+	}
+
+	public void countError(ErrorCode code) {
+		errorCounters.get(code).increment();
+	}
+
+	public <T> void gauge(String name, T state, ToDoubleFunction<T> value) {
+		Gauge.builder(name, state, value).register(meterRegistry);
+	}
+
+	private Timer controllerTimer(Method method) {
+		return Timer.builder("hometender.controller")
+				.tag("class", method.getDeclaringClass().getSimpleName())
+				.tag("method", method.getName())
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+}
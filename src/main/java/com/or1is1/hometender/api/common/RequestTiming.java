@@ -0,0 +1,87 @@
+package com.or1is1.hometender.api.common;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+// 요청 하나의 구간별 소요 시간, 요청 스레드에 묶여 있다
+@Getter
+public class RequestTiming {
+	private static final ThreadLocal<RequestTiming> current = new ThreadLocal<>();
+
+	private final long startNanos = System.nanoTime();
+	private long controllerNanos;
+	private long serviceNanos;
+	private long sqlNanos;
+	private int sqlCount;
+	private int entityLoadCount;
+	private int controllerDepth;
+	private int serviceDepth;
+
+	public static RequestTiming start() {
+		RequestTiming requestTiming = new RequestTiming();
+		current.set(requestTiming);
+
+		return requestTiming;
+	}
+
+	public static RequestTiming current() {
+		return current.get();
+	}
+
+	public static void clear() {
+		current.remove();
+	}
+
+	// 중첩 호출은 가장 바깥 호출의 시간만 센다
+	public boolean enterController() {
+		return controllerDepth++ == 0;
+	}
+
+	public void exitController(boolean outermost, long nanos) {
+		controllerDepth--;
+
+		if (outermost) {
+			controllerNanos += nanos;
+		}
+	}
+
+	public boolean enterService() {
+		return serviceDepth++ == 0;
+	}
+
+	public void exitService(boolean outermost, long nanos) {
+		serviceDepth--;
+
+		if (outermost) {
+			serviceNanos += nanos;
+		}
+	}
+
+	public void addSql(long nanos) {
+		sqlNanos += nanos;
+		sqlCount++;
+	}
+
+	public void addEntityLoad() {
+		entityLoadCount++;
+	}
+
+	public long getTotalNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	// https://www.w3.org/TR/server-timing/
+	public String toServerTiming() {
+		long totalNanos = getTotalNanos();
+
+		return String.format(Locale.ROOT,
+				"filter;dur=%.3f, controller;dur=%.3f, service;dur=%.3f, sql;dur=%.3f;desc=\"%d statements\", total;dur=%.3f",
+				millis(totalNanos - controllerNanos), millis(controllerNanos), millis(serviceNanos),
+				millis(sqlNanos), sqlCount, millis(totalNanos));
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
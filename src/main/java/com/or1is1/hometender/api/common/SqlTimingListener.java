@@ -0,0 +1,37 @@
+package com.or1is1.hometender.api.common;
+
+import org.hibernate.SessionEventListener;
+
+// hibernate.session.events.auto 로 세션마다 생성된다
+public class SqlTimingListener implements SessionEventListener {
+	private long statementStart;
+	private long batchStart;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		record(statementStart);
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		record(batchStart);
+	}
+
+	private void record(long start) {
+		RequestTiming requestTiming = RequestTiming.current();
+
+		if (requestTiming != null) {
+			requestTiming.addSql(System.nanoTime() - start);
+		}
+	}
+}
@@ -3,4 +3,6 @@ package com.or1is1.hometender.api.common;
 public class StringConst {
 	public static final String LOGIN_MEMBER = "loginMember";
 	public static final String REQUEST_UUID = "requestUuId";
+	public static final String REQUEST_ID_HEADER = "X-Request-Id";
+	public static final String BEARER = "Bearer ";
 }
@@ -0,0 +1,52 @@
+package com.or1is1.hometender.api.common;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+// 노드 번호는 hometender.id.node (HibernateConfig 가 넘긴다), 노드마다 달라야 한다
+// 임의로 고르면 32 개 중에서 겹칠 수 있고 겹친 노드끼리 같은 id 를 만들므로, 비어 있으면 뜨지 않는다
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+	public static final String NODE = "hometender.id.node";
+
+	private static volatile TimeOrderedIds timeOrderedIds; // 엔티티마다 생성되지만 순번은 JVM 하나에 하나
+
+	public TimeOrderedIdGenerator(TimeOrderedId config, Member idMember, CustomIdGeneratorCreationContext context) {
+		if (timeOrderedIds == null) {
+			synchronized (TimeOrderedIdGenerator.class) {
+				if (timeOrderedIds == null) {
+					Object node = context.getServiceRegistry()
+							.getService(ConfigurationService.class)
+							.getSettings()
+							.get(NODE);
+
+					timeOrderedIds = new TimeOrderedIds(resolveNode(node));
+				}
+			}
+		}
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+		return timeOrderedIds.next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	private static long resolveNode(Object node) {
+		if (node == null || node.toString().isBlank()) {
+			throw new IllegalStateException(NODE + " is not set, give each instance a unique node (0~" + TimeOrderedIds.MAX_NODE + ")");
+		}
+
+		return Long.parseLong(node.toString().trim());
+	}
+}
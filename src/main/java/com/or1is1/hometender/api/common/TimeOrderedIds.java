@@ -0,0 +1,46 @@
+package com.or1is1.hometender.api.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// [32비트 초][5비트 노드][16비트 순번] = 53비트, 자바스크립트 Number 로도 정확히 표현된다
+// 같은 초에 순번이 넘치거나 시계가 뒤로 가면 다음 초를 미리 당겨 쓰므로 항상 증가한다
+public class TimeOrderedIds {
+	public static final long EPOCH_SECONDS = 1_704_067_200L; // 2024-01-01T00:00:00Z
+	public static final int NODE_BITS = 5;
+	public static final int SEQUENCE_BITS = 16;
+	public static final long MAX_NODE = (1L << NODE_BITS) - 1;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	private final long node;
+	private final LongSupplier epochSeconds;
+	private final AtomicLong last = new AtomicLong(); // [초][순번]
+
+	public TimeOrderedIds(long node) {
+		this(node, () -> System.currentTimeMillis() / 1000);
+	}
+
+	public TimeOrderedIds(long node, LongSupplier epochSeconds) {
+		if (node < 0 || node > MAX_NODE) {
+			throw new IllegalArgumentException("node must be between 0 and " + MAX_NODE + ": " + node);
+		}
+
+		this.node = node;
+		this.epochSeconds = epochSeconds;
+	}
+
+	public long next() {
+		while (true) {
+			long previous = last.get();
+			long seconds = epochSeconds.getAsLong() - EPOCH_SECONDS;
+			long next = seconds > previous >>> SEQUENCE_BITS ? seconds << SEQUENCE_BITS : previous + 1;
+
+			if (last.compareAndSet(previous, next)) {
+				return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+						| node << SEQUENCE_BITS
+						| next & SEQUENCE_MASK;
+			}
+		}
+	}
+}
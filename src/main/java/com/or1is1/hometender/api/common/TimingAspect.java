@@ -0,0 +1,61 @@
+package com.or1is1.hometender.api.common;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+@Component
+@Aspect
+@RequiredArgsConstructor
+public class TimingAspect {
+	private final RequestMetrics requestMetrics;
+
+	@Pointcut("within(com.or1is1.hometender.api.domain..*) && @within(org.springframework.web.bind.annotation.RestController)")
+	public void controller() {
+	}
+
+	@Pointcut("within(com.or1is1.hometender.api.domain..*) && @within(org.springframework.stereotype.Service)")
+	public void service() {
+	}
+
+	@Around("controller()")
+	public Object controllerTiming(ProceedingJoinPoint joinPoint) throws Throwable {
+		RequestTiming requestTiming = RequestTiming.current();
+		boolean outermost = requestTiming != null && requestTiming.enterController();
+		long start = System.nanoTime();
+
+		try {
+			return joinPoint.proceed();
+		} finally {
+			long elapsed = System.nanoTime() - start;
+
+			if (requestTiming != null) {
+				requestTiming.exitController(outermost, elapsed);
+			}
+
+			requestMetrics.recordController(((MethodSignature) joinPoint.getSignature()).getMethod(), elapsed);
+		}
+	}
+
+	@Around("service()")
+	public Object serviceTiming(ProceedingJoinPoint joinPoint) throws Throwable {
+		RequestTiming requestTiming = RequestTiming.current();
+
+		if (requestTiming == null) {
+			return joinPoint.proceed();
+		}
+
+		boolean outermost = requestTiming.enterService();
+		long start = System.nanoTime();
+
+		try {
+			return joinPoint.proceed();
+		} finally {
+			requestTiming.exitService(outermost, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.or1is1.hometender.api.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+	// MySQL 드라이버는 이 옵션이 있어야 JDBC 배치를 multi-row INSERT 한 번으로 보낸다
+	// H2 는 모르는 옵션이면 연결을 거부하므로 URL 을 보고 MySQL 일 때만 넣는다
+	@Bean
+	public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource hikariDataSource
+						&& hikariDataSource.getJdbcUrl() != null
+						&& hikariDataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+
+					hikariDataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+				}
+
+				return bean;
+			}
+		};
+	}
+}
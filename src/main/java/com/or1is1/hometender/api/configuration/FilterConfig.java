@@ -1,11 +1,17 @@
 package com.or1is1.hometender.api.configuration;
 
+import com.or1is1.hometender.api.common.ErrorResponses;
+import com.or1is1.hometender.api.common.LoginTokenProvider;
+import com.or1is1.hometender.api.common.RequestMetrics;
+import com.or1is1.hometender.api.filter.ConcurrencyLimitFilter;
+import com.or1is1.hometender.api.filter.ConcurrencyLimiter;
 import com.or1is1.hometender.api.filter.LogFilter;
 import com.or1is1.hometender.api.filter.LoginCheckFilter;
+import com.or1is1.hometender.api.filter.RateLimitFilter;
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
-import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,12 +20,14 @@ import static java.lang.Integer.MIN_VALUE;
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
-	private final MessageSource messageSource;
+	private final ErrorResponses errorResponses;
+	private final LoginTokenProvider loginTokenProvider;
+	private final RequestMetrics requestMetrics;
 
 	@Bean
 	public FilterRegistrationBean<Filter> logFilter() {
 		FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
-		filterRegistrationBean.setFilter(new LogFilter());
+		filterRegistrationBean.setFilter(new LogFilter(requestMetrics));
 		filterRegistrationBean.setOrder(MIN_VALUE);
 		filterRegistrationBean.addUrlPatterns(("/*"));
 
@@ -29,10 +37,66 @@ public class FilterConfig {
 	@Bean
 	public FilterRegistrationBean<Filter> loginCheckFilter() {
 		FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
-		filterRegistrationBean.setFilter(new LoginCheckFilter(messageSource));
+		filterRegistrationBean.setFilter(new LoginCheckFilter(errorResponses, loginTokenProvider));
 		filterRegistrationBean.setOrder(0);
 		filterRegistrationBean.addUrlPatterns(("/*"));
 
 		return filterRegistrationBean;
 	}
+
+	// 예약 작업(sweep)을 위해 빈으로 둔다, 서블릿에는 아래 등록 빈으로만 등록된다
+	@Bean
+	public RateLimitFilter rateLimitFilter(@Value("${hometender.rate-limit.max-keys}") int maxKeys,
+	                                       @Value("${hometender.rate-limit.login.permits-per-second}") double loginPermits,
+	                                       @Value("${hometender.rate-limit.login.burst}") int loginBurst,
+	                                       @Value("${hometender.rate-limit.sign-up.permits-per-second}") double signUpPermits,
+	                                       @Value("${hometender.rate-limit.sign-up.burst}") int signUpBurst,
+	                                       @Value("${hometender.rate-limit.read.permits-per-second}") double readPermits,
+	                                       @Value("${hometender.rate-limit.read.burst}") int readBurst,
+	                                       @Value("${hometender.rate-limit.write.permits-per-second}") double writePermits,
+	                                       @Value("${hometender.rate-limit.write.burst}") int writeBurst) {
+		return new RateLimitFilter(errorResponses, maxKeys,
+				new RateLimitFilter.Limit(loginPermits, loginBurst),
+				new RateLimitFilter.Limit(signUpPermits, signUpBurst),
+				new RateLimitFilter.Limit(readPermits, readBurst),
+				new RateLimitFilter.Limit(writePermits, writeBurst));
+	}
+
+	@Bean
+	public FilterRegistrationBean<Filter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter,
+	                                                                  @Value("${hometender.rate-limit.enabled}") boolean enabled) {
+		FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
+		filterRegistrationBean.setFilter(rateLimitFilter);
+		filterRegistrationBean.setOrder(1);
+		filterRegistrationBean.addUrlPatterns(("/*"));
+		filterRegistrationBean.setEnabled(enabled);
+
+		return filterRegistrationBean;
+	}
+
+	// 묶음 요청의 하위 요청도 같은 한도를 쓰도록 빈으로 둔다 (BatchService)
+	@Bean
+	public ConcurrencyLimitFilter concurrencyLimitFilter(@Value("${hometender.concurrency-limit.initial-limit}") int initialLimit,
+	                                                     @Value("${hometender.concurrency-limit.min-limit}") int minLimit,
+	                                                     @Value("${hometender.concurrency-limit.max-limit}") int maxLimit,
+	                                                     @Value("${hometender.concurrency-limit.tolerance}") double tolerance) {
+		ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, System.nanoTime());
+		requestMetrics.gauge("hometender.concurrency.limit", concurrencyLimiter, ConcurrencyLimiter::getLimit);
+		requestMetrics.gauge("hometender.concurrency.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlight);
+
+		return new ConcurrencyLimitFilter(errorResponses, concurrencyLimiter);
+	}
+
+	// 요청 수 제한에 걸린 요청은 한도를 쓰지 않도록 그 뒤에 둔다
+	@Bean
+	public FilterRegistrationBean<Filter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter concurrencyLimitFilter,
+	                                                                         @Value("${hometender.concurrency-limit.enabled}") boolean enabled) {
+		FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
+		filterRegistrationBean.setFilter(concurrencyLimitFilter);
+		filterRegistrationBean.setOrder(2);
+		filterRegistrationBean.addUrlPatterns(("/*"));
+		filterRegistrationBean.setEnabled(enabled);
+
+		return filterRegistrationBean;
+	}
 }
@@ -0,0 +1,25 @@
+package com.or1is1.hometender.api.configuration;
+
+import com.or1is1.hometender.api.common.EntityLoadInterceptor;
+import com.or1is1.hometender.api.common.SqlTimingListener;
+import com.or1is1.hometender.api.common.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+
+@Configuration
+public class HibernateConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(@Value("${hometender.id.node}") String node) {
+		return properties -> {
+			properties.put(TimeOrderedIdGenerator.NODE, node);
+			properties.put(AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+			properties.put(INTERCEPTOR, new EntityLoadInterceptor());
+		};
+	}
+}
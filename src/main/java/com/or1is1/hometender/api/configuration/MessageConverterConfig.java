@@ -0,0 +1,32 @@
+package com.or1is1.hometender.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+import static com.or1is1.hometender.api.common.ContentFormat.CBOR;
+import static com.or1is1.hometender.api.common.ContentFormat.SMILE;
+
+// Accept: application/cbor, application/x-jackson-smile 이면 바이너리로 응답한다
+// JSON 변환기 뒤에 두어 Accept 가 없거나 */* 이면 JSON 이 기본이다
+@Configuration
+@RequiredArgsConstructor
+public class MessageConverterConfig implements WebMvcConfigurer {
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		// 기본 등록된 변환기는 ObjectMapperConfig 와 설정이 다르므로 바꿔 끼운다
+		converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+				|| converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+		converters.add(new MappingJackson2CborHttpMessageConverter(CBOR.mapper(objectMapper)));
+		converters.add(new MappingJackson2SmileHttpMessageConverter(SMILE.mapper(objectMapper)));
+	}
+}
@@ -1,6 +1,7 @@
 package com.or1is1.hometender.api.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.common.Fields;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,6 +10,7 @@ public class ObjectMapperConfig {
 
 	@Bean
 	public ObjectMapper objectMapper() {
-		return new ObjectMapper();
+		return new ObjectMapper()
+				.setFilterProvider(Fields.defaultFilterProvider());
 	}
 }
@@ -0,0 +1,91 @@
+package com.or1is1.hometender.api.configuration;
+
+import com.or1is1.hometender.api.common.ReadYourWrites;
+import com.or1is1.hometender.api.common.ReplicaRoutingDataSource;
+import com.or1is1.hometender.api.common.ReplicaRoutingDataSource.Balancing;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_SESSION;
+
+// hometender.datasource.replica-urls 가 있을 때만 읽기 전용 트랜잭션을 replica 로 나눈다
+// balancing 은 round-robin 또는 least-loaded(활성 연결 수가 가장 적은 replica)
+@Configuration
+@ConditionalOnProperty("hometender.datasource.replica-urls")
+public class RoutingDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(
+			HikariDataSource primaryDataSource,
+			DataSourceProperties dataSourceProperties,
+			@Value("${hometender.datasource.replica-urls}") List<String> replicaUrls,
+			@Value("${hometender.datasource.balancing:round-robin}") String balancing,
+			@Value("${hometender.datasource.read-your-writes:5s}") Duration readYourWritesWindow) {
+
+		List<DataSource> replicas = replicaUrls.stream()
+				.map(String::trim)
+				.map(url -> replica(primaryDataSource, dataSourceProperties, url))
+				.toList();
+
+		return new ReplicaRoutingDataSource(
+				primaryDataSource,
+				replicas,
+				Balancing.valueOf(balancing.trim().toUpperCase().replace('-', '_')),
+				new ReadYourWrites(readYourWritesWindow),
+				RoutingDataSourceConfig::currentMember
+		);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	private static HikariDataSource replica(HikariDataSource primaryDataSource, DataSourceProperties dataSourceProperties,
+	                                        String url) {
+
+		HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.url(url)
+				.build();
+
+		replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+		replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+		replica.setReadOnly(true);
+
+		return replica;
+	}
+
+	private static Long currentMember() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		if (requestAttributes == null) {
+			return null;
+		}
+
+		return requestAttributes.getAttribute(LOGIN_MEMBER, SCOPE_SESSION) instanceof Long memberId ? memberId : null;
+	}
+}
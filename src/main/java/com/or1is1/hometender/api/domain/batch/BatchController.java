@@ -0,0 +1,27 @@
+package com.or1is1.hometender.api.domain.batch;
+
+import com.or1is1.hometender.api.dto.BatchRequest;
+import com.or1is1.hometender.api.dto.BatchResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+	private final BatchService batchService;
+
+	@PostMapping
+	public List<BatchResponse> post(@RequestBody List<BatchRequest> batchRequestList,
+	                                HttpServletRequest httpServletRequest) {
+
+		return batchService.execute(batchRequestList, httpServletRequest);
+	}
+}
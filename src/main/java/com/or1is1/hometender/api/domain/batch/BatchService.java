@@ -0,0 +1,331 @@
+package com.or1is1.hometender.api.domain.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.or1is1.hometender.api.dto.BatchRequest;
+import com.or1is1.hometender.api.dto.BatchResponse;
+import com.or1is1.hometender.api.filter.ConcurrencyLimitFilter;
+import com.or1is1.hometender.api.filter.RateLimitFilter;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.filter.CompositeFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.or1is1.hometender.api.common.DomainException.BATCH_IS_INVALID_EXCEPTION;
+import static com.or1is1.hometender.api.common.DomainException.BATCH_TOO_MANY_EXCEPTION;
+import static jakarta.servlet.http.HttpServletResponse.SC_GATEWAY_TIMEOUT;
+import static jakarta.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+import static jakarta.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// 하위 요청을 요청 수 제한, 동시 처리 수 제한을 거쳐 DispatcherServlet 으로 보낸다, 로그인 확인은 묶음 요청에서 이미 거쳤다
+// dependsOn 이 없는 하위 요청은 동시에, 있는 요청은 앞선 요청이 모두 성공한 뒤에 실행한다
+// 하위 요청은 전용 스레드 풀(threads, queue-capacity)에서 실행하고, 풀이 차면 그 하위 요청만 503 으로 돌려준다
+// 시간이 지나면 실행 중인 하위 요청을 인터럽트하고, 끝나기를 기다린 뒤에 묶음 응답을 쓴다
+@Slf4j
+@Service
+public class BatchService {
+	public static final int SC_FAILED_DEPENDENCY = 424;
+
+	private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+	private final DispatcherServlet dispatcherServlet;
+	private final ObjectMapper objectMapper;
+	private final Filter subRequestFilter;
+	private final ThreadPoolExecutor executor;
+	private final int maxRequests;
+	private final Duration timeout;
+	private final Duration cancelTimeout;
+
+	public BatchService(DispatcherServlet dispatcherServlet,
+	                    ObjectMapper objectMapper,
+	                    RateLimitFilter rateLimitFilter,
+	                    ConcurrencyLimitFilter concurrencyLimitFilter,
+	                    @Value("${hometender.rate-limit.enabled}") boolean rateLimitEnabled,
+	                    @Value("${hometender.concurrency-limit.enabled}") boolean concurrencyLimitEnabled,
+	                    @Value("${hometender.batch.max-requests}") int maxRequests,
+	                    @Value("${hometender.batch.timeout}") Duration timeout,
+	                    @Value("${hometender.batch.cancel-timeout}") Duration cancelTimeout,
+	                    @Value("${hometender.batch.threads}") int threads,
+	                    @Value("${hometender.batch.queue-capacity}") int queueCapacity) {
+
+		this.dispatcherServlet = dispatcherServlet;
+		this.objectMapper = objectMapper;
+		this.maxRequests = maxRequests;
+		this.timeout = timeout;
+		this.cancelTimeout = cancelTimeout;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("batch-"));
+
+		// 서블릿에 등록된 필터와 같은 인스턴스를 써서 한도를 묶음 요청 밖의 요청과 함께 센다
+		List<Filter> filters = new ArrayList<>();
+
+		if (rateLimitEnabled) {
+			filters.add(rateLimitFilter);
+		}
+
+		if (concurrencyLimitEnabled) {
+			filters.add(concurrencyLimitFilter);
+		}
+
+		CompositeFilter compositeFilter = new CompositeFilter();
+		compositeFilter.setFilters(filters);
+		this.subRequestFilter = compositeFilter;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public List<BatchResponse> execute(List<BatchRequest> batchRequestList, HttpServletRequest request) {
+		validate(batchRequestList);
+
+		Map<String, String> mdc = MDC.getCopyOfContextMap();
+		Map<String, CompletableFuture<BatchResponse>> futures = new LinkedHashMap<>();
+		Batch batch = new Batch();
+
+		for (BatchRequest batchRequest : batchRequestList) {
+			// 원래 요청은 응답 뒤 재사용되므로 요청 스레드에서 미리 복사한다
+			BatchSubRequest subRequest = subRequest(batchRequest, request);
+			List<CompletableFuture<BatchResponse>> dependencies = batchRequest.dependsOn()
+					.stream()
+					.map(futures::get)
+					.toList();
+
+			CompletableFuture<BatchResponse> future = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+					.handle((ignored, throwable) -> {
+						if (throwable != null || dependencies.stream().anyMatch(dependency -> dependency.join().status() >= 400)) {
+							return CompletableFuture.completedFuture(new BatchResponse(batchRequest.id(), SC_FAILED_DEPENDENCY, null));
+						}
+
+						return submit(batchRequest.id(), subRequest, mdc, batch);
+					})
+					.thenCompose(response -> response);
+
+			futures.put(batchRequest.id(), future);
+		}
+
+		try {
+			return collect(futures);
+		} finally {
+			if (!batch.close(cancelTimeout)) {
+				log.warn("batch sub-requests still running after {}", cancelTimeout);
+			}
+		}
+	}
+
+	private BatchSubRequest subRequest(BatchRequest batchRequest, HttpServletRequest request) {
+		try {
+			byte[] body = batchRequest.body() == null ? null : objectMapper.writeValueAsBytes(batchRequest.body());
+
+			return new BatchSubRequest(request, batchRequest.method(), batchRequest.url(), body);
+		} catch (JsonProcessingException ex) {
+			throw BATCH_IS_INVALID_EXCEPTION;
+		}
+	}
+
+	private CompletableFuture<BatchResponse> submit(String id, BatchSubRequest subRequest, Map<String, String> mdc,
+	                                                Batch batch) {
+
+		CompletableFuture<BatchResponse> future = new CompletableFuture<>();
+
+		try {
+			executor.execute(() -> {
+				if (!batch.start()) {
+					future.complete(new BatchResponse(id, SC_GATEWAY_TIMEOUT, null));
+					return;
+				}
+
+				try {
+					future.complete(dispatch(id, subRequest, mdc));
+				} finally {
+					batch.finish();
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			future.complete(new BatchResponse(id, SC_SERVICE_UNAVAILABLE, null));
+		}
+
+		return future;
+	}
+
+	private List<BatchResponse> collect(Map<String, CompletableFuture<BatchResponse>> futures) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		List<BatchResponse> batchResponseList = new ArrayList<>(futures.size());
+
+		for (Map.Entry<String, CompletableFuture<BatchResponse>> entry : futures.entrySet()) {
+			try {
+				batchResponseList.add(entry.getValue().get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS));
+			} catch (TimeoutException ex) {
+				batchResponseList.add(new BatchResponse(entry.getKey(), SC_GATEWAY_TIMEOUT, null));
+			} catch (ExecutionException ex) {
+				log.error(ex.getMessage(), ex);
+				batchResponseList.add(new BatchResponse(entry.getKey(), SC_INTERNAL_SERVER_ERROR, null));
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		return batchResponseList;
+	}
+
+	private BatchResponse dispatch(String id, BatchSubRequest subRequest, Map<String, String> mdc) {
+		if (mdc != null) {
+			MDC.setContextMap(mdc);
+		}
+
+		try {
+			BatchSubResponse subResponse = new BatchSubResponse();
+
+			subRequestFilter.doFilter(subRequest, subResponse, dispatcherServlet::service);
+
+			return new BatchResponse(id, subResponse.getStatus(), toJson(subResponse.getBody()));
+		} catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+
+			return new BatchResponse(id, SC_INTERNAL_SERVER_ERROR, null);
+		} finally {
+			MDC.clear();
+		}
+	}
+
+	private JsonNode toJson(byte[] body) {
+		if (body.length == 0) {
+			return null;
+		}
+
+		try {
+			return objectMapper.readTree(body);
+		} catch (IOException ex) {
+			return TextNode.valueOf(new String(body, UTF_8));
+		}
+	}
+
+	private void validate(List<BatchRequest> batchRequestList) {
+		if (batchRequestList == null || batchRequestList.isEmpty()) {
+			throw BATCH_IS_INVALID_EXCEPTION;
+		}
+
+		if (batchRequestList.size() > maxRequests) {
+			throw BATCH_TOO_MANY_EXCEPTION;
+		}
+
+		Set<String> ids = new HashSet<>();
+
+		for (BatchRequest batchRequest : batchRequestList) {
+			// 앞에 나온 요청에만 의존할 수 있으므로 순환이 생기지 않는다
+			if (!ids.containsAll(batchRequest.dependsOn())
+					|| !isAllowed(batchRequest.method(), batchRequest.url())
+					|| batchRequest.id() == null
+					|| !ids.add(batchRequest.id())) {
+
+				throw BATCH_IS_INVALID_EXCEPTION;
+			}
+		}
+	}
+
+	// 묶음 요청 중첩과 로그인 상태를 바꾸는 회원 요청(가입, 로그인, 로그아웃, 탈퇴)은 받지 않는다
+	static boolean isAllowed(String method, String url) {
+		if (method == null || !METHODS.contains(method) || url == null) {
+			return false;
+		}
+
+		String path = url.split("[?#]", 2)[0];
+
+		if (!path.startsWith("/api/") || path.contains("..") || path.startsWith("/api/batch")) {
+			return false;
+		}
+
+		return !path.startsWith("/api/members") || "GET".equals(method);
+	}
+
+	// 묶음 요청 하나의 하위 요청을 실행하는 스레드, 묶음 응답을 쓰기 전에 모두 끝나야 한다
+	// 요청 스레드가 기다리므로 synchronized 대신 ReentrantLock, 가상 스레드가 캐리어를 붙잡지 않는다
+	private static class Batch {
+		private final Set<Thread> running = new HashSet<>();
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition finished = lock.newCondition();
+		private boolean closed;
+
+		boolean start() {
+			lock.lock();
+
+			try {
+				if (closed) {
+					return false;
+				}
+
+				running.add(Thread.currentThread());
+
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		// close 의 인터럽트가 남아 다음 작업에 새지 않게 지운다
+		void finish() {
+			lock.lock();
+
+			try {
+				running.remove(Thread.currentThread());
+				Thread.interrupted();
+				finished.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		// 시작하지 않은 하위 요청은 실행하지 않고, 실행 중인 하위 요청은 인터럽트한 뒤 끝나기를 기다린다
+		boolean close(Duration timeout) {
+			lock.lock();
+
+			try {
+				closed = true;
+				running.forEach(Thread::interrupt);
+
+				long remaining = timeout.toNanos();
+
+				while (!running.isEmpty()) {
+					if (remaining <= 0) {
+						return false;
+					}
+
+					remaining = finished.awaitNanos(remaining);
+				}
+
+				return true;
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+
+				return false;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
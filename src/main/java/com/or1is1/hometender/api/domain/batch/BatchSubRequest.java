@@ -0,0 +1,350 @@
+package com.or1is1.hometender.api.domain.batch;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+// 묶음 요청의 하위 요청, 세션과 나머지 헤더는 원래 요청의 것을 쓰고 메서드, 경로, 본문, 속성은 따로 가진다
+// 하위 요청은 다른 스레드에서 동시에 처리되므로 DispatcherServlet 이 쓰는 요청 속성을 원래 요청과 공유하지 않는다
+// 컨테이너는 응답 뒤 원래 요청 객체를 재사용하므로 헤더, 주소처럼 읽는 값은 만들 때 모두 복사해 둔다
+class BatchSubRequest extends HttpServletRequestWrapper {
+	private final String method;
+	private final String path;
+	private final String query;
+	private final MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+	private final byte[] body;
+	private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+	// 원래 요청이 먼저 끝나도 쓸 수 있도록 미리 꺼내 둔다
+	private final String contextPath;
+	private final List<Locale> locales;
+	private final HttpSession session;
+	private final HttpHeaders headers = new HttpHeaders();
+	private final Cookie[] cookies;
+	private final String scheme;
+	private final String serverName;
+	private final int serverPort;
+	private final boolean secure;
+	private final String protocol;
+	private final String remoteAddr;
+	private final String remoteHost;
+	private final int remotePort;
+
+	BatchSubRequest(HttpServletRequest request, String method, String url, byte[] body) {
+		super(request);
+
+		UriComponents uriComponents = UriComponentsBuilder.fromUriString(url).build();
+
+		this.method = method;
+		this.path = uriComponents.getPath();
+		this.query = uriComponents.getQuery();
+		this.body = body;
+		this.contextPath = request.getContextPath();
+		this.locales = Collections.list(request.getLocales());
+		this.session = request.getSession(false);
+		this.cookies = request.getCookies();
+		this.scheme = request.getScheme();
+		this.serverName = request.getServerName();
+		this.serverPort = request.getServerPort();
+		this.secure = request.isSecure();
+		this.protocol = request.getProtocol();
+		this.remoteAddr = request.getRemoteAddr();
+		this.remoteHost = request.getRemoteHost();
+		this.remotePort = request.getRemotePort();
+
+		for (String name : Collections.list(request.getHeaderNames())) {
+			if (!CONTENT_TYPE.equalsIgnoreCase(name) && !CONTENT_LENGTH.equalsIgnoreCase(name) && !ACCEPT.equalsIgnoreCase(name)) {
+				headers.addAll(name, Collections.list(request.getHeaders(name)));
+			}
+		}
+
+		if (body != null) {
+			headers.set(CONTENT_TYPE, APPLICATION_JSON_VALUE);
+			headers.set(CONTENT_LENGTH, String.valueOf(body.length));
+		}
+
+		// 하위 응답은 묶음 응답에 JSON 으로 들어간다
+		headers.set(ACCEPT, APPLICATION_JSON_VALUE);
+
+		uriComponents.getQueryParams().forEach((name, values) -> values.forEach(value ->
+				parameters.add(UriUtils.decode(name, UTF_8), value == null ? "" : UriUtils.decode(value, UTF_8))));
+	}
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return contextPath + path;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		StringBuffer requestURL = new StringBuffer();
+
+		return requestURL.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort())
+				.append(getRequestURI());
+	}
+
+	@Override
+	public String getContextPath() {
+		return contextPath;
+	}
+
+	@Override
+	public String getServletPath() {
+		return path;
+	}
+
+	@Override
+	public String getPathInfo() {
+		return null;
+	}
+
+	@Override
+	public String getQueryString() {
+		return query;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		return parameters.getFirst(name);
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		Map<String, String[]> parameterMap = new LinkedHashMap<>();
+		parameters.forEach((name, values) -> parameterMap.put(name, values.toArray(String[]::new)));
+
+		return parameterMap;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		List<String> values = parameters.get(name);
+
+		return values == null ? null : values.toArray(String[]::new);
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return headers.getFirst(name);
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		return Collections.enumeration(headers.getOrEmpty(name));
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(headers.keySet());
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		return headers.getFirstDate(name);
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String value = headers.getFirst(name);
+
+		return value == null ? -1 : Integer.parseInt(value);
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		return cookies;
+	}
+
+	@Override
+	public String getScheme() {
+		return scheme;
+	}
+
+	@Override
+	public String getServerName() {
+		return serverName;
+	}
+
+	@Override
+	public int getServerPort() {
+		return serverPort;
+	}
+
+	@Override
+	public boolean isSecure() {
+		return secure;
+	}
+
+	@Override
+	public String getProtocol() {
+		return protocol;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return remoteAddr;
+	}
+
+	@Override
+	public String getRemoteHost() {
+		return remoteHost;
+	}
+
+	@Override
+	public int getRemotePort() {
+		return remotePort;
+	}
+
+	@Override
+	public String getContentType() {
+		return body == null ? null : APPLICATION_JSON_VALUE;
+	}
+
+	@Override
+	public int getContentLength() {
+		return body == null ? -1 : body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return getContentLength();
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return UTF_8.name();
+	}
+
+	@Override
+	public void setCharacterEncoding(String env) {
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(body == null ? new byte[0] : body);
+
+		return new ServletInputStream() {
+			@Override
+			public boolean isFinished() {
+				return inputStream.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public int read() {
+				return inputStream.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return inputStream.read(b, off, len);
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		return new BufferedReader(new InputStreamReader(getInputStream(), UTF_8));
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+	}
+
+	@Override
+	public void setAttribute(String name, Object o) {
+		if (o == null) {
+			attributes.remove(name);
+			return;
+		}
+
+		attributes.put(name, o);
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locales.get(0);
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return Collections.enumeration(locales);
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		return session != null || !create ? session : super.getSession(true);
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return DispatcherType.REQUEST;
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return false;
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		return false;
+	}
+}
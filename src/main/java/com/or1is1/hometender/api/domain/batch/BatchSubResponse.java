@@ -0,0 +1,253 @@
+package com.or1is1.hometender.api.domain.batch;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+// 하위 요청의 응답을 메모리에 모은다, 원래 응답에는 아무것도 쓰지 않는다
+class BatchSubResponse implements HttpServletResponse {
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+	private final HttpHeaders headers = new HttpHeaders();
+	private int status = SC_OK;
+	private String contentType;
+	private Charset charset = UTF_8;
+	private Locale locale = Locale.getDefault();
+	private PrintWriter writer;
+	private boolean committed;
+
+	byte[] getBody() {
+		if (writer != null) {
+			writer.flush();
+		}
+
+		return body.toByteArray();
+	}
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public void setStatus(int sc) {
+		if (!committed) {
+			status = sc;
+		}
+	}
+
+	@Override
+	public void sendError(int sc, String msg) {
+		sendError(sc);
+	}
+
+	@Override
+	public void sendError(int sc) {
+		setStatus(sc);
+		committed = true;
+	}
+
+	@Override
+	public void sendRedirect(String location) {
+		setStatus(SC_FOUND);
+		setHeader(HttpHeaders.LOCATION, location);
+		committed = true;
+	}
+
+	// 하위 요청에서 세션 쿠키를 바꾸지 않는다
+	@Override
+	public void addCookie(Cookie cookie) {
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		return headers.containsKey(name);
+	}
+
+	@Override
+	public String encodeURL(String url) {
+		return url;
+	}
+
+	@Override
+	public String encodeRedirectURL(String url) {
+		return url;
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		setHeader(name, formatDate(date));
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		addHeader(name, formatDate(date));
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		headers.set(name, value);
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		headers.add(name, value);
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		setHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		addHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return headers.getFirst(name);
+	}
+
+	@Override
+	public Collection<String> getHeaders(String name) {
+		return headers.getOrEmpty(name);
+	}
+
+	@Override
+	public Collection<String> getHeaderNames() {
+		return new ArrayList<>(headers.keySet());
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return charset.name();
+	}
+
+	@Override
+	public void setCharacterEncoding(String charset) {
+		if (charset != null) {
+			this.charset = Charset.forName(charset);
+		}
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public void setContentType(String type) {
+		contentType = type;
+
+		if (type != null) {
+			setHeader(HttpHeaders.CONTENT_TYPE, type);
+		}
+	}
+
+	@Override
+	public void setContentLength(int len) {
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		return new ServletOutputStream() {
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void write(int b) {
+				body.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				body.write(b, off, len);
+			}
+		};
+	}
+
+	@Override
+	public PrintWriter getWriter() {
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(body, charset));
+		}
+
+		return writer;
+	}
+
+	@Override
+	public void setBufferSize(int size) {
+	}
+
+	@Override
+	public int getBufferSize() {
+		return body.size();
+	}
+
+	@Override
+	public void flushBuffer() {
+		if (writer != null) {
+			writer.flush();
+		}
+
+		committed = true;
+	}
+
+	@Override
+	public void resetBuffer() {
+		body.reset();
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	@Override
+	public void reset() {
+		resetBuffer();
+		headers.clear();
+		status = SC_OK;
+		contentType = null;
+	}
+
+	@Override
+	public void setLocale(Locale loc) {
+		locale = loc;
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	private static String formatDate(long date) {
+		return RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+	}
+}
@@ -1,5 +1,6 @@
 package com.or1is1.hometender.api.domain.bookmark;
 
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import com.or1is1.hometender.api.domain.member.Member;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
 import jakarta.persistence.*;
@@ -14,7 +15,7 @@ import static lombok.AccessLevel.PROTECTED;
 @NoArgsConstructor(access = PROTECTED)
 public class Bookmark {
 	@Id
-	@GeneratedValue
+	@TimeOrderedId
 	private Long bookmarkId;
 
 	@ManyToOne(fetch = LAZY)
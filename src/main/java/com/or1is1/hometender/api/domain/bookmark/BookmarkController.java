@@ -1,12 +1,16 @@
 package com.or1is1.hometender.api.domain.bookmark;
 
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.common.StringConst;
 import com.or1is1.hometender.api.dto.RecipeDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.or1is1.hometender.api.common.DomainException.BOOKMARK_ALREADY_EXISTS_EXCEPTION;
+
 @RestController
 @RequestMapping("/api/bookmark")
 @RequiredArgsConstructor
@@ -18,13 +22,19 @@ public class BookmarkController {
 	public void post(@PathVariable Long recipeId,
 	                 @SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId) {
 
-		bookmarkService.post(recipeId, loginId);
+		// 같은 북마크를 동시에 두 번 넣으면 확인을 둘 다 통과하고 커밋에서 유니크 제약에 걸린다
+		try {
+			bookmarkService.post(recipeId, loginId);
+		} catch (DataIntegrityViolationException ex) {
+			throw BOOKMARK_ALREADY_EXISTS_EXCEPTION;
+		}
 	}
 
 	@GetMapping
-	public List<RecipeDto> get(@SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId) {
+	public List<RecipeDto> get(@SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId,
+	                           @RequestParam(name = Fields.PARAMETER, required = false) String fields) {
 
-		return bookmarkService.getList(loginId);
+		return bookmarkService.getList(loginId, Fields.parse(fields));
 	}
 
 	@DeleteMapping("/{recipeId}")
@@ -2,12 +2,20 @@ package com.or1is1.hometender.api.domain.bookmark;
 
 import com.or1is1.hometender.api.domain.member.Member;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+	@EntityGraph(attributePaths = {"recipe", "recipe.recipeIngredientList", "recipe.recipeIngredientList.ingredient", "recipe.recipeIngredientList.subRecipe"})
 	List<Bookmark> findByWriter(Member writer);
 
+	// fields 에 recipeIngredientList 가 없을 때, 레시피만 함께 조회한다
+	@EntityGraph(attributePaths = "recipe")
+	List<Bookmark> findSummaryByWriter(Member writer);
+
+	boolean existsByWriterAndRecipe(Member writer, Recipe recipe);
+
 	void deleteByWriterAndRecipe(Member writer, Recipe recipe);
 }
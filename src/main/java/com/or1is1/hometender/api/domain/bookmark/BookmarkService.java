@@ -1,7 +1,9 @@
 package com.or1is1.hometender.api.domain.bookmark;
 
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.domain.member.Member;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
+import com.or1is1.hometender.api.domain.sync.SyncService;
 import com.or1is1.hometender.api.dto.RecipeDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -9,23 +11,41 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static com.or1is1.hometender.api.domain.sync.SyncType.BOOKMARK;
+import static com.or1is1.hometender.api.dto.RecipeDto.RECIPE_INGREDIENT_LIST;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookmarkService {
 
 	private final BookmarkRepository bookmarkRepository;
+	private final SyncService syncService;
 
 	@Transactional
 	public void post(Long recipeId, Long loginId) {
 
-		bookmarkRepository.save(new Bookmark(new Member(loginId), new Recipe(recipeId)));
+		Member writer = new Member(loginId);
+		Recipe recipe = new Recipe(recipeId);
+
+		// (writer_id, recipe_id) 는 유니크, 이미 있으면 그대로 둔다
+		if (bookmarkRepository.existsByWriterAndRecipe(writer, recipe)) {
+			return;
+		}
+
+		bookmarkRepository.save(new Bookmark(writer, recipe));
+		syncService.upsert(loginId, BOOKMARK, recipeId);
 	}
 
-	public List<RecipeDto> getList(Long loginId) {
+	public List<RecipeDto> getList(Long loginId, Fields fields) {
+
+		Member writer = new Member(loginId);
+		List<Bookmark> bookmarkList = fields.includes(RECIPE_INGREDIENT_LIST)
+				? bookmarkRepository.findByWriter(writer)
+				: bookmarkRepository.findSummaryByWriter(writer);
 
-		return bookmarkRepository.findByWriter(new Member(loginId))
-				.stream().map(RecipeDto::new)
+		return bookmarkList.stream()
+				.map(bookmark -> new RecipeDto(bookmark, fields))
 				.toList();
 	}
 
@@ -33,5 +53,6 @@ public class BookmarkService {
 	public void delete(Long recipeId, Long loginId) {
 
 		bookmarkRepository.deleteByWriterAndRecipe(new Member(loginId), new Recipe(recipeId));
+		syncService.delete(loginId, BOOKMARK, recipeId);
 	}
 }
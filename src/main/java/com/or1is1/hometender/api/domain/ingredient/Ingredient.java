@@ -1,20 +1,24 @@
 package com.or1is1.hometender.api.domain.ingredient;
 
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import com.or1is1.hometender.api.domain.member.Member;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
 import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Cache(usage = READ_WRITE, region = "ingredient")
 public class Ingredient {
 	@Id
-	@GeneratedValue
+	@TimeOrderedId
 	private Long ingredientId;
 
 	@ManyToOne(fetch = LAZY)
@@ -16,10 +16,10 @@ public class IngredientController {
 	private final IngredientService ingredientService;
 
 	@PostMapping
-	public void postIngredient(@Validated @RequestBody IngredientDto ingredientDto,
+	public Long postIngredient(@Validated @RequestBody IngredientDto ingredientDto,
 	                           @SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId) {
 
-		ingredientService.post(loginId, ingredientDto);
+		return ingredientService.post(loginId, ingredientDto);
 	}
 
 	@GetMapping
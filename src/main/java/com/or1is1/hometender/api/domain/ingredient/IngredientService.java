@@ -1,5 +1,8 @@
 package com.or1is1.hometender.api.domain.ingredient;
 
+import com.or1is1.hometender.api.common.EntityCacheEvictor;
+import com.or1is1.hometender.api.domain.recipe.RecipeIngredientRepository;
+import com.or1is1.hometender.api.domain.sync.SyncService;
 import com.or1is1.hometender.api.dto.IngredientDto;
 import com.or1is1.hometender.api.domain.member.Member;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +13,8 @@ import java.util.List;
 
 import static com.or1is1.hometender.api.common.DomainException.INGREDIENT_CAN_NOT_FIND_EXCEPTION;
 import static com.or1is1.hometender.api.common.DomainException.INGREDIENT_IS_NOT_MINE_EXCEPTION;
+import static com.or1is1.hometender.api.domain.sync.SyncType.INGREDIENT;
+import static com.or1is1.hometender.api.domain.sync.SyncType.RECIPE;
 
 @Service
 @RequiredArgsConstructor
@@ -17,9 +22,12 @@ import static com.or1is1.hometender.api.common.DomainException.INGREDIENT_IS_NOT
 public class IngredientService {
 
 	private final IngredientRepository ingredientRepository;
+	private final RecipeIngredientRepository recipeIngredientRepository;
+	private final EntityCacheEvictor entityCacheEvictor;
+	private final SyncService syncService;
 
 	@Transactional
-	public void post(Long loginId, IngredientDto addRequest) {
+	public Long post(Long loginId, IngredientDto addRequest) {
 
 		Ingredient ingredient = new Ingredient(
 				new Member(loginId),
@@ -28,7 +36,10 @@ public class IngredientService {
 				addRequest.volume()
 		);
 
-		ingredientRepository.save(ingredient);
+		Long ingredientId = ingredientRepository.save(ingredient).getIngredientId();
+		syncService.upsert(loginId, INGREDIENT, ingredientId);
+
+		return ingredientId;
 	}
 
 	public List<IngredientDto> getList(Long loginId) {
@@ -61,11 +72,21 @@ public class IngredientService {
 				ingredientDto.description(),
 				ingredientDto.volume()
 		);
+
+		entityCacheEvictor.evictIngredient(ingredientId);
+		syncService.upsert(loginId, INGREDIENT, ingredientId);
+
+		// RecipeIngredientDto 에 재료의 이름과 도수가 담기므로 재료를 쓰는 레시피도 바뀐 것으로 기록한다
+		for (Object[] recipeAndWriter : recipeIngredientRepository.findRecipeAndWriterByIngredientId(ingredientId)) {
+			syncService.upsert((Long) recipeAndWriter[1], RECIPE, (Long) recipeAndWriter[0]);
+		}
 	}
 
 	@Transactional
 	public void delete(Long ingredientId, Long loginId) {
 
 		ingredientRepository.deleteByIngredientIdAndWriter(ingredientId, new Member(loginId));
+		entityCacheEvictor.evictIngredient(ingredientId);
+		syncService.delete(loginId, INGREDIENT, ingredientId);
 	}
 }
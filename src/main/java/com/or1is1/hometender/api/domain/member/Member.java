@@ -1,8 +1,8 @@
 package com.or1is1.hometender.api.domain.member;
 
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
     @Id
-    @GeneratedValue
+    @TimeOrderedId
     @Column(name = "member_id")
     private Long id;
 
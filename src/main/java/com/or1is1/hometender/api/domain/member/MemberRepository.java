@@ -1,9 +1,15 @@
 package com.or1is1.hometender.api.domain.member;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryInterface {
 	Optional<Member> findByLoginId(String loginId);
+
+	// 회원의 레시피 사이 하위 레시피 관계를 바꾸는 수정을 한 번에 하나씩 (RecipeService.put)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Member> findForUpdateById(Long id);
 }
@@ -1,5 +1,6 @@
 package com.or1is1.hometender.api.domain.member;
 
+import com.or1is1.hometender.api.domain.sync.SyncService;
 import com.or1is1.hometender.api.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,6 +17,7 @@ public class MemberService {
 
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final SyncService syncService;
 
 	public LoginMemberResult get(Long memberId) {
 		Member member = memberRepository.findById(memberId)
@@ -30,7 +32,9 @@ public class MemberService {
 		String password = passwordEncoder.encode(userSignUpRequest.password());
 		String nickname = userSignUpRequest.nickname();
 
-		memberRepository.save(new Member(loginId, password, nickname));
+		Member member = new Member(loginId, password, nickname);
+		memberRepository.save(member);
+		syncService.createCursor(member.getId());
 	}
 
 	public IsExistMemberResponse isExists(IsExistMemberRequest isExistMemberRequest) {
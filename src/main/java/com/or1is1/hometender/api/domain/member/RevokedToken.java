@@ -0,0 +1,27 @@
+package com.or1is1.hometender.api.domain.member;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 로그아웃으로 폐기된 토큰, 노드마다 주기적으로 읽어 메모리의 폐기 목록에 더하고 만료되면 지운다
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class RevokedToken {
+	@Id
+	private String tokenId;
+
+	private long expiresAt;
+
+	private long revokedAt;
+
+	public RevokedToken(String tokenId, long expiresAt, long revokedAt) {
+		this.tokenId = tokenId;
+		this.expiresAt = expiresAt;
+		this.revokedAt = revokedAt;
+	}
+}
@@ -0,0 +1,17 @@
+package com.or1is1.hometender.api.domain.member;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+	List<RevokedToken> findByRevokedAtGreaterThanAndExpiresAtGreaterThan(long revokedAt, long expiresAt);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RevokedToken r where r.expiresAt <= :now")
+	int deleteExpired(long now);
+}
@@ -0,0 +1,46 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+import static org.springframework.http.MediaType.IMAGE_JPEG;
+import static org.springframework.http.MediaType.IMAGE_PNG;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageType {
+	JPEG(IMAGE_JPEG, "jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+	PNG(IMAGE_PNG, "png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+	private final MediaType mediaType;
+	private final String formatName;
+	private final byte[] signature;
+
+	// Content-Type 헤더 대신 파일 앞부분의 시그니처로 판단한다
+	public static Optional<ImageType> sniff(byte[] head, int length) {
+		for (ImageType type : values()) {
+			if (type.matches(head, length)) {
+				return Optional.of(type);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private boolean matches(byte[] head, int length) {
+		if (length < signature.length) {
+			return false;
+		}
+
+		for (int i = 0; i < signature.length; i++) {
+			if (head[i] != signature[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -1,10 +1,12 @@
 package com.or1is1.hometender.api.domain.recipe;
 
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import com.or1is1.hometender.api.domain.member.Member;
 import com.or1is1.hometender.api.dto.RecipeIngredientDto;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
 import java.util.List;
 
@@ -12,13 +14,15 @@ import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Cache(usage = READ_WRITE, region = "recipe")
 public class Recipe {
 	@Id
-	@GeneratedValue
+	@TimeOrderedId
 	private Long recipeId;
 
 	@ManyToOne(fetch = LAZY)
@@ -33,10 +37,17 @@ public class Recipe {
 	private CraftMethod craftMethod;
 
 	@OneToMany(mappedBy = "recipe", cascade = ALL)
+	@Cache(usage = READ_WRITE, region = "recipe.recipeIngredientList")
 	private List<RecipeIngredient> recipeIngredientList;
 
 	private String manual;
 
+	// 파일은 RecipeImageStorage 가 hash 로 찾는다
+	private String imageHash;
+
+	@Enumerated(STRING)
+	private ImageType imageType;
+
 	public Recipe(Long recipeId) {
 		this.recipeId = recipeId;
 	}
@@ -60,4 +71,13 @@ public class Recipe {
 				.toList();
 		this.manual = manual;
 	}
+
+	public RecipeImage getImage() {
+		return imageHash == null ? null : new RecipeImage(imageHash, imageType);
+	}
+
+	public void changeImage(RecipeImage image) {
+		this.imageHash = image == null ? null : image.hash();
+		this.imageType = image == null ? null : image.type();
+	}
 }
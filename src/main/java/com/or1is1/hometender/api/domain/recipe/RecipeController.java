@@ -1,15 +1,24 @@
 package com.or1is1.hometender.api.domain.recipe;
 
+import com.or1is1.hometender.api.common.Fields;
+import com.or1is1.hometender.api.common.FileTransfer;
 import com.or1is1.hometender.api.dto.GetRecipeListResponse;
 import com.or1is1.hometender.api.dto.RecipeDto;
+import com.or1is1.hometender.api.dto.RecipeExpansionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import static com.or1is1.hometender.api.common.DomainException.RECIPE_INGREDIENT_IS_EMPTY_EXCEPTION;
 import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
+import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
+import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
 
 @RestController
 @RequestMapping("/api/recipe")
@@ -17,16 +26,17 @@ import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
 public class RecipeController {
 
 	private final RecipeService recipeService;
+	private final RecipeImageStorage recipeImageStorage;
 
 	@PostMapping
-	public void postRecipe(@Validated @RequestBody RecipeDto recipeDto,
+	public Long postRecipe(@Validated @RequestBody RecipeDto recipeDto,
 	                       @SessionAttribute(LOGIN_MEMBER) Long memberId) {
 
 		if (recipeDto.recipeIngredientList() == null) {
 			throw RECIPE_INGREDIENT_IS_EMPTY_EXCEPTION;
 		}
 
-		recipeService.post(memberId, recipeDto);
+		return recipeService.post(memberId, recipeDto);
 	}
 
 	@GetMapping
@@ -37,9 +47,18 @@ public class RecipeController {
 
 	@GetMapping("/{recipeId}")
 	public RecipeDto getRecipeDetail(@PathVariable Long recipeId,
-	                                 @SessionAttribute(LOGIN_MEMBER) Long memberId) {
+	                                 @SessionAttribute(LOGIN_MEMBER) Long memberId,
+	                                 @RequestParam(name = Fields.PARAMETER, required = false) String fields) {
 
-		return recipeService.get(recipeId, memberId);
+		return recipeService.get(recipeId, memberId, Fields.parse(fields));
+	}
+
+	// 하위 레시피까지 풀어 기본 재료별 양(ml)과 전체 양, 도수를 돌려준다
+	@GetMapping("/{recipeId}/expansion")
+	public RecipeExpansionResponse getRecipeExpansion(@PathVariable Long recipeId,
+	                                                  @SessionAttribute(LOGIN_MEMBER) Long memberId) {
+
+		return recipeService.getExpansion(recipeId, memberId);
 	}
 
 	@PutMapping("/{recipeId}")
@@ -56,4 +75,36 @@ public class RecipeController {
 
 		recipeService.delete(recipeId, memberId);
 	}
+
+	// multipart 가 아닌 본문 그대로 받아 디스크로 흘려 쓴다
+	@PutMapping(value = "/{recipeId}/image", consumes = {IMAGE_JPEG_VALUE, IMAGE_PNG_VALUE})
+	public void putRecipeImage(@PathVariable Long recipeId,
+	                           @SessionAttribute(LOGIN_MEMBER) Long memberId,
+	                           HttpServletRequest request) throws IOException {
+
+		recipeService.checkWriter(recipeId, memberId);
+		RecipeImage image = recipeImageStorage.store(request.getInputStream(), request.getContentLengthLong());
+		recipeService.putImage(recipeId, memberId, image);
+	}
+
+	@GetMapping("/{recipeId}/image")
+	public void getRecipeImage(@PathVariable Long recipeId,
+	                           @SessionAttribute(LOGIN_MEMBER) Long memberId,
+	                           @RequestParam(defaultValue = "false") boolean thumbnail,
+	                           HttpServletRequest request,
+	                           HttpServletResponse response) throws IOException {
+
+		RecipeImage image = recipeService.getImage(recipeId, memberId);
+		Path file = thumbnail ? recipeImageStorage.thumbnail(image) : recipeImageStorage.original(image);
+
+		FileTransfer.write(request, response, file, image.type().getMediaType(),
+				thumbnail ? image.hash() + "-thumbnail" : image.hash());
+	}
+
+	@DeleteMapping("/{recipeId}/image")
+	public void deleteRecipeImage(@PathVariable Long recipeId,
+	                              @SessionAttribute(LOGIN_MEMBER) Long memberId) {
+
+		recipeService.putImage(recipeId, memberId, null);
+	}
 }
@@ -0,0 +1,21 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import com.or1is1.hometender.api.dto.ExpandedIngredientDto;
+
+import java.util.List;
+import java.util.Set;
+
+// 레시피 하나를 기본 재료까지 푼 결과, 캐시에 두고 함께 쓰므로 바꾸지 않는다
+// subRecipeIdSet 은 바로 아래 하위 레시피, reachableRecipeIdSet 은 그 아래까지 모두
+public record RecipeExpansion(
+		List<ExpandedIngredientDto> ingredientList,
+		double size,
+		double alcohol,
+		Set<Long> subRecipeIdSet,
+		Set<Long> reachableRecipeIdSet,
+		Set<Long> ingredientIdSet
+) {
+	public double volume() {
+		return size == 0 ? 0 : alcohol / size * 100;
+	}
+}
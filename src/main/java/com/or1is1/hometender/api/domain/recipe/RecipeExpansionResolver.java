@@ -0,0 +1,305 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import com.or1is1.hometender.api.dto.ExpandedIngredientDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.or1is1.hometender.api.common.DomainException.RECIPE_CAN_NOT_FIND_EXCEPTION;
+import static com.or1is1.hometender.api.common.DomainException.RECIPE_INGREDIENT_IS_CIRCULAR_EXCEPTION;
+
+// 레시피를 하위 레시피까지 풀어 기본 재료, 전체 양, 도수를 계산하고 레시피마다 기억해 둔다
+// 하위 레시피는 전개 결과를 넣은 양에 맞게 비율로 줄이거나 늘려 더한다, 선택 재료는 양에 넣지 않는다
+// 레시피나 재료가 바뀌면 그것을 (하위 레시피를 거쳐) 쓰는 레시피만 지운다, EntityCacheEvictor 가 커밋 후에 부른다
+// 전개하는 동안 그 전개가 읽은 레시피나 재료가 무효화됐으면 읽은 값이 오래됐을 수 있으므로 캐시에 넣지 않는다
+// 캐시가 가득 차면 가장 먼저 넣은 전개부터 하나씩 내보낸다
+// 무효화는 이 노드의 커밋만 알고, 트랜잭션의 스냅샷이나 replica 는 무효화보다 늦은 값을 줄 수 있으므로 cacheTtl 이 지나면 다시 전개한다
+// 순환 검사는 이 캐시를 쓰지 않는다 (RecipeService.checkSubRecipe)
+@Component
+public class RecipeExpansionResolver {
+	private final RecipeRepository recipeRepository;
+	private final int cacheSize;
+	private final long cacheTtl;
+	private final Map<Long, CachedExpansion> cache = new ConcurrentHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicLong sequence = new AtomicLong();
+
+	// 아래는 모두 lock 안에서만 읽고 바꾼다
+	// 캐시에 넣은 순서, 가득 차면 앞에서부터 내보낸다
+	private final Set<Long> insertionOrder = new LinkedHashSet<>();
+	// 레시피 / 재료 id -> 마지막으로 무효화된 sequence
+	private final Map<Long, Long> recipeInvalidatedAt = new HashMap<>();
+	private final Map<Long, Long> ingredientInvalidatedAt = new HashMap<>();
+	// 위 기록이 커지면 비우고, 그 전에 시작한 전개는 모두 오래된 것으로 본다
+	private long staleBefore;
+
+	// 아래 역방향 색인은 캐시에 있는 레시피만 담는다
+	// 하위 레시피 id -> 그 레시피를 바로 쓰는 레시피 id
+	private final Map<Long, Set<Long>> dependents = new HashMap<>();
+	// 재료 id -> 전개 결과에 그 재료가 들어간 레시피 id
+	private final Map<Long, Set<Long>> recipesByIngredient = new HashMap<>();
+
+	public RecipeExpansionResolver(RecipeRepository recipeRepository,
+	                               @Value("${hometender.recipe.expansion-cache-size}") int cacheSize,
+	                               @Value("${hometender.recipe.expansion-cache-ttl}") Duration cacheTtl) {
+
+		this.recipeRepository = recipeRepository;
+		this.cacheSize = cacheSize;
+		this.cacheTtl = cacheTtl.toNanos();
+	}
+
+	public RecipeExpansion resolve(Long recipeId) {
+		RecipeExpansion cached = cached(recipeId, System.nanoTime());
+
+		if (cached != null) {
+			return cached;
+		}
+
+		return resolve(recipeId, new LinkedHashSet<>(), new HashMap<>(), sequence.get(), System.nanoTime());
+	}
+
+	public void invalidateRecipe(Long recipeId) {
+		lock.lock();
+
+		try {
+			invalidated(recipeInvalidatedAt, recipeId);
+			evict(recipeId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void invalidateIngredient(Long ingredientId) {
+		lock.lock();
+
+		try {
+			invalidated(ingredientInvalidatedAt, ingredientId);
+
+			for (Long recipeId : List.copyOf(recipesByIngredient.getOrDefault(ingredientId, Set.of()))) {
+				evict(recipeId);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// path: 지금 풀고 있는 레시피들, 다시 나오면 순환이다
+	// resolved: 이번 호출에서 푼 레시피, 캐시에 넣지 못했어도 같은 하위 레시피를 두 번 풀지 않는다
+	private RecipeExpansion resolve(Long recipeId, Set<Long> path, Map<Long, RecipeExpansion> resolved,
+	                                long startSequence, long now) {
+
+		RecipeExpansion expansion = resolved.containsKey(recipeId) ? resolved.get(recipeId) : cached(recipeId, now);
+
+		if (expansion != null) {
+			return expansion;
+		}
+
+		if (!path.add(recipeId)) {
+			throw RECIPE_INGREDIENT_IS_CIRCULAR_EXCEPTION;
+		}
+
+		// 재료와 하위 레시피를 함께 읽는다
+		Recipe recipe = recipeRepository.findByRecipeIdIn(List.of(recipeId)).stream()
+				.findFirst()
+				.orElseThrow(() -> RECIPE_CAN_NOT_FIND_EXCEPTION);
+
+		Map<Long, ExpandedIngredientDto> ingredientById = new LinkedHashMap<>();
+		Set<Long> subRecipeIdSet = new HashSet<>();
+		Set<Long> reachableRecipeIdSet = new HashSet<>();
+		Set<Long> ingredientIdSet = new HashSet<>();
+		double size = 0;
+		double alcohol = 0;
+
+		for (RecipeIngredient recipeIngredient : recipe.getRecipeIngredientList()) {
+			double ml = recipeIngredient.getSizeType().toMl(recipeIngredient.getSize());
+
+			if (recipeIngredient.getSubRecipe() == null) {
+				if (recipeIngredient.isOption()) {
+					continue;
+				}
+
+				Ingredient ingredient = recipeIngredient.getIngredient();
+				add(ingredientById, new ExpandedIngredientDto(ingredient.getIngredientId(), ingredient.getName(),
+						ingredient.getVolume(), (float) ml));
+				ingredientIdSet.add(ingredient.getIngredientId());
+				size += ml;
+				alcohol += ml * ingredient.getVolume() / 100;
+
+				continue;
+			}
+
+			// 선택 재료인 하위 레시피도 순환은 막는다
+			Long subRecipeId = recipeIngredient.getSubRecipe().getRecipeId();
+			RecipeExpansion subExpansion = resolve(subRecipeId, path, resolved, startSequence, now);
+			subRecipeIdSet.add(subRecipeId);
+			reachableRecipeIdSet.add(subRecipeId);
+			reachableRecipeIdSet.addAll(subExpansion.reachableRecipeIdSet());
+
+			if (recipeIngredient.isOption()) {
+				continue;
+			}
+
+			double ratio = subExpansion.size() == 0 ? 0 : ml / subExpansion.size();
+
+			for (ExpandedIngredientDto expandedIngredient : subExpansion.ingredientList()) {
+				add(ingredientById, new ExpandedIngredientDto(expandedIngredient.ingredientId(),
+						expandedIngredient.ingredientName(), expandedIngredient.volume(),
+						(float) (expandedIngredient.size() * ratio)));
+			}
+
+			ingredientIdSet.addAll(subExpansion.ingredientIdSet());
+			size += ml;
+			alcohol += subExpansion.alcohol() * ratio;
+		}
+
+		path.remove(recipeId);
+
+		expansion = new RecipeExpansion(List.copyOf(ingredientById.values()), size, alcohol,
+				Set.copyOf(subRecipeIdSet), Set.copyOf(reachableRecipeIdSet), Set.copyOf(ingredientIdSet));
+		resolved.put(recipeId, expansion);
+		put(recipeId, expansion, startSequence, now);
+
+		return expansion;
+	}
+
+	// 만료된 전개는 다시 전개해 덮어쓴다, 그 사이에는 색인에 남아 있어도 무효화에 지장이 없다
+	private RecipeExpansion cached(Long recipeId, long now) {
+		CachedExpansion cached = cache.get(recipeId);
+
+		return cached == null || now - cached.cachedAt() > cacheTtl ? null : cached.expansion();
+	}
+
+	// startNanos: 전개를 시작한 시각, 끝난 시각으로 넣으면 전개하는 동안 읽은 값이 TTL 보다 오래 남는다
+	private void put(Long recipeId, RecipeExpansion expansion, long startSequence, long startNanos) {
+		lock.lock();
+
+		try {
+			if (isStale(recipeId, expansion, startSequence)) {
+				return;
+			}
+
+			CachedExpansion replaced = cache.put(recipeId, new CachedExpansion(expansion, startNanos));
+
+			if (replaced != null) {
+				unlinkAll(recipeId, replaced.expansion());
+			}
+
+			insertionOrder.remove(recipeId);
+			insertionOrder.add(recipeId);
+
+			while (cache.size() > cacheSize) {
+				Long oldest = insertionOrder.iterator().next();
+				remove(oldest);
+			}
+
+			expansion.subRecipeIdSet().forEach(subRecipeId -> link(dependents, subRecipeId, recipeId));
+			expansion.ingredientIdSet().forEach(ingredientId -> link(recipesByIngredient, ingredientId, recipeId));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void invalidated(Map<Long, Long> invalidatedAt, Long id) {
+		long invalidatedSequence = sequence.incrementAndGet();
+
+		if (recipeInvalidatedAt.size() + ingredientInvalidatedAt.size() >= cacheSize) {
+			recipeInvalidatedAt.clear();
+			ingredientInvalidatedAt.clear();
+			staleBefore = invalidatedSequence;
+		}
+
+		invalidatedAt.put(id, invalidatedSequence);
+	}
+
+	// 전개를 시작한 뒤에 그 레시피, 거쳐 간 하위 레시피, 들어간 재료 중 하나라도 무효화됐는지 본다
+	private boolean isStale(Long recipeId, RecipeExpansion expansion, long startSequence) {
+		if (startSequence < staleBefore) {
+			return true;
+		}
+
+		if (recipeInvalidatedAt.getOrDefault(recipeId, 0L) > startSequence) {
+			return true;
+		}
+
+		for (Long reachableRecipeId : expansion.reachableRecipeIdSet()) {
+			if (recipeInvalidatedAt.getOrDefault(reachableRecipeId, 0L) > startSequence) {
+				return true;
+			}
+		}
+
+		for (Long ingredientId : expansion.ingredientIdSet()) {
+			if (ingredientInvalidatedAt.getOrDefault(ingredientId, 0L) > startSequence) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	// 바뀐 레시피와 그것을 쓰는 레시피를 위로 따라가며 지운다
+	private void evict(Long recipeId) {
+		Queue<Long> queue = new ArrayDeque<>(List.of(recipeId));
+		Set<Long> visited = new HashSet<>();
+
+		while (!queue.isEmpty()) {
+			Long evicted = queue.poll();
+
+			if (!visited.add(evicted)) {
+				continue;
+			}
+
+			queue.addAll(dependents.getOrDefault(evicted, Set.of()));
+			remove(evicted);
+		}
+	}
+
+	// 이 레시피 하나만 지운다, 이것을 쓰는 레시피의 색인은 그 레시피 몫이므로 남는다
+	private void remove(Long recipeId) {
+		CachedExpansion cached = cache.remove(recipeId);
+		insertionOrder.remove(recipeId);
+
+		if (cached != null) {
+			unlinkAll(recipeId, cached.expansion());
+		}
+	}
+
+	private void unlinkAll(Long recipeId, RecipeExpansion expansion) {
+		expansion.subRecipeIdSet().forEach(subRecipeId -> unlink(dependents, subRecipeId, recipeId));
+		expansion.ingredientIdSet().forEach(ingredientId -> unlink(recipesByIngredient, ingredientId, recipeId));
+	}
+
+	private static void add(Map<Long, ExpandedIngredientDto> ingredientById, ExpandedIngredientDto expandedIngredient) {
+		ingredientById.merge(expandedIngredient.ingredientId(), expandedIngredient, (current, added) ->
+				new ExpandedIngredientDto(current.ingredientId(), current.ingredientName(), current.volume(),
+						current.size() + added.size()));
+	}
+
+	private static void link(Map<Long, Set<Long>> index, Long key, Long recipeId) {
+		index.computeIfAbsent(key, k -> new HashSet<>()).add(recipeId);
+	}
+
+	private static void unlink(Map<Long, Set<Long>> index, Long key, Long recipeId) {
+		Set<Long> recipeIdSet = index.get(key);
+
+		if (recipeIdSet != null && recipeIdSet.remove(recipeId) && recipeIdSet.isEmpty()) {
+			index.remove(key);
+		}
+	}
+
+	private record CachedExpansion(RecipeExpansion expansion, long cachedAt) {
+	}
+}
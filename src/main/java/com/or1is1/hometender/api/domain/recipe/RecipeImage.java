@@ -0,0 +1,8 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+// hash 는 원본 내용의 sha-256 (hex), 같은 사진은 레시피가 달라도 파일 하나를 함께 쓴다
+public record RecipeImage(
+		String hash,
+		ImageType type
+) {
+}
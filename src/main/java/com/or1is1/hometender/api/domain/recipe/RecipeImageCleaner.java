@@ -0,0 +1,53 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+// 사진 파일은 내용의 hash 로 여러 레시피가 함께 쓰므로, 어느 레시피도 쓰지 않을 때만 지운다
+// 커밋 뒤 deleteGrace 만큼 기다렸다가 확인해, 같은 사진을 올리는 중인 요청과 replica 지연을 넘긴다
+// 예약은 메모리에만 있으므로 그 사이 재시작하면 파일이 남는다
+@Slf4j
+@Component
+public class RecipeImageCleaner {
+	private final RecipeRepository recipeRepository;
+	private final RecipeImageStorage recipeImageStorage;
+	private final TaskScheduler taskScheduler;
+	private final Duration deleteGrace;
+
+	public RecipeImageCleaner(RecipeRepository recipeRepository,
+	                          RecipeImageStorage recipeImageStorage,
+	                          TaskScheduler taskScheduler,
+	                          @Value("${hometender.image.delete-grace}") Duration deleteGrace) {
+
+		this.recipeRepository = recipeRepository;
+		this.recipeImageStorage = recipeImageStorage;
+		this.taskScheduler = taskScheduler;
+		this.deleteGrace = deleteGrace;
+	}
+
+	@TransactionalEventListener
+	public void onRecipeImageReleased(RecipeImageReleasedEvent event) {
+		taskScheduler.schedule(() -> deleteIfUnused(event.hash()), Instant.now().plus(deleteGrace));
+	}
+
+	void deleteIfUnused(String hash) {
+		if (recipeRepository.existsByImageHash(hash)) {
+			return;
+		}
+
+		try {
+			if (recipeImageStorage.delete(hash)) {
+				log.info("recipe image deleted | hash = {}", hash);
+			}
+		} catch (IOException ex) {
+			log.warn("recipe image delete failed | hash = {}", hash, ex);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+// 레시피가 사진을 바꾸거나 지워 더는 쓰지 않는 사진
+public record RecipeImageReleasedEvent(
+		String hash
+) {
+}
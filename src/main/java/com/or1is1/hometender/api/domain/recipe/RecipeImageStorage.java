@@ -0,0 +1,346 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.or1is1.hometender.api.common.DomainException.*;
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+// 레시피 사진을 내용의 sha-256 으로 저장한다, {root}/originals/ab/cd/{hash}
+// 업로드는 고정 크기 버퍼로 임시 파일에 흘려 쓰면서 해시를 계산하고, 끝나면 제자리로 옮긴다
+// 썸네일은 처음 요청될 때 한 번만 만들어 {root}/thumbnails 아래에 둔다
+// 가로 x 세로가 maxPixels 를 넘는 사진은 디코딩하기 전에 헤더만 읽어 거절한다
+@Component
+public class RecipeImageStorage {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Path originals;
+	private final Path thumbnails;
+	private final Path tmp;
+	private final long maxSize;
+	private final long maxPixels;
+	private final int thumbnailWidth;
+	private final Duration deleteGrace;
+	private final Map<String, CompletableFuture<Path>> thumbnailsInFlight = new ConcurrentHashMap<>();
+	// 파일 I/O 를 하는 동안 잡으므로 synchronized 대신 ReentrantLock, 가상 스레드가 캐리어를 붙잡지 않는다
+	private final ReentrantLock[] originalLocks = new ReentrantLock[64];
+
+	public RecipeImageStorage(@Value("${hometender.image.root}") String root,
+	                          @Value("${hometender.image.max-size}") DataSize maxSize,
+	                          @Value("${hometender.image.max-pixels}") long maxPixels,
+	                          @Value("${hometender.image.thumbnail-width}") int thumbnailWidth,
+	                          @Value("${hometender.image.delete-grace}") Duration deleteGrace) throws IOException {
+
+		Path rootPath = Path.of(root).toAbsolutePath();
+		this.originals = Files.createDirectories(rootPath.resolve("originals"));
+		this.thumbnails = Files.createDirectories(rootPath.resolve("thumbnails"));
+		this.tmp = Files.createDirectories(rootPath.resolve("tmp"));
+		this.maxSize = maxSize.toBytes();
+		this.maxPixels = maxPixels;
+		this.thumbnailWidth = thumbnailWidth;
+		this.deleteGrace = deleteGrace;
+
+		for (int i = 0; i < originalLocks.length; i++) {
+			originalLocks[i] = new ReentrantLock();
+		}
+	}
+
+	public RecipeImage store(InputStream inputStream, long contentLength) throws IOException {
+		if (contentLength > maxSize) {
+			throw RECIPE_IMAGE_TOO_LARGE_EXCEPTION;
+		}
+
+		Path upload = Files.createTempFile(tmp, "upload-", null);
+
+		try {
+			MessageDigest digest = sha256();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			ImageType type = null;
+			long size = 0;
+
+			try (OutputStream outputStream = Files.newOutputStream(upload)) {
+				int read;
+
+				while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+					if (type == null) {
+						type = ImageType.sniff(buffer, read).orElseThrow(() -> RECIPE_IMAGE_IS_INVALID_EXCEPTION);
+					}
+
+					size += read;
+
+					if (size > maxSize) {
+						throw RECIPE_IMAGE_TOO_LARGE_EXCEPTION;
+					}
+
+					digest.update(buffer, 0, read);
+					outputStream.write(buffer, 0, read);
+				}
+			}
+
+			if (type == null) {
+				throw RECIPE_IMAGE_IS_INVALID_EXCEPTION;
+			}
+
+			read(upload, this::checkPixels);
+
+			String hash = HexFormat.of().formatHex(digest.digest());
+			Path original = resolve(originals, hash, hash);
+
+			// 같은 내용이 이미 있으면 새로 쓰지 않고 수정 시각만 바꿔, 커밋 전에 delete 가 지우지 않게 한다
+			ReentrantLock lock = originalLock(hash);
+			lock.lock();
+
+			try {
+				if (Files.exists(original)) {
+					Files.setLastModifiedTime(original, FileTime.from(Instant.now()));
+				} else {
+					Files.createDirectories(original.getParent());
+
+					try {
+						Files.move(upload, original, ATOMIC_MOVE);
+					} catch (FileAlreadyExistsException ex) {
+						// 같은 사진이 동시에 올라왔다
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			return new RecipeImage(hash, type);
+		} finally {
+			Files.deleteIfExists(upload);
+		}
+	}
+
+	public Path original(RecipeImage image) {
+		Path original = resolve(originals, image.hash(), image.hash());
+
+		if (!Files.exists(original)) {
+			throw RECIPE_IMAGE_CAN_NOT_FIND_EXCEPTION;
+		}
+
+		return original;
+	}
+
+	// 어느 레시피도 쓰지 않는 사진의 원본과 썸네일을 지운다 (RecipeImageCleaner)
+	// 같은 내용을 올리고 아직 커밋하지 않은 요청이 있을 수 있으므로, deleteGrace 안에 쓰거나 건드린 원본은 남긴다
+	public boolean delete(String hash) throws IOException {
+		Path original = resolve(originals, hash, hash);
+
+		ReentrantLock lock = originalLock(hash);
+		lock.lock();
+
+		try {
+			if (!Files.exists(original)
+					|| Files.getLastModifiedTime(original).toInstant().isAfter(Instant.now().minus(deleteGrace))) {
+				return false;
+			}
+
+			Files.deleteIfExists(original);
+		} finally {
+			lock.unlock();
+		}
+
+		Path thumbnailDirectory = resolve(thumbnails, hash, hash).getParent();
+
+		if (Files.isDirectory(thumbnailDirectory)) {
+			try (DirectoryStream<Path> thumbnailFiles = Files.newDirectoryStream(thumbnailDirectory, hash + "-*")) {
+				for (Path thumbnailFile : thumbnailFiles) {
+					Files.deleteIfExists(thumbnailFile);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	// 같은 썸네일을 동시에 요청하면 한 요청만 만들고 나머지는 기다린다
+	public Path thumbnail(RecipeImage image) throws IOException {
+		Path thumbnail = resolve(thumbnails, image.hash(), image.hash() + "-" + thumbnailWidth);
+
+		if (Files.exists(thumbnail)) {
+			return thumbnail;
+		}
+
+		CompletableFuture<Path> created = new CompletableFuture<>();
+		CompletableFuture<Path> inFlight = thumbnailsInFlight.putIfAbsent(thumbnail.toString(), created);
+
+		if (inFlight != null) {
+			return join(inFlight);
+		}
+
+		try {
+			createThumbnail(original(image), thumbnail, image.type());
+			created.complete(thumbnail);
+
+			return thumbnail;
+		} catch (IOException | RuntimeException ex) {
+			created.completeExceptionally(ex);
+
+			throw ex;
+		} finally {
+			thumbnailsInFlight.remove(thumbnail.toString(), created);
+		}
+	}
+
+	private void createThumbnail(Path original, Path thumbnail, ImageType type) throws IOException {
+		Files.createDirectories(thumbnail.getParent());
+
+		read(original, reader -> {
+			// 한도가 생기기 전에 올라온 원본도 디코딩하지 않는다
+			checkPixels(reader);
+
+			int width = reader.getWidth(0);
+			int height = reader.getHeight(0);
+
+			// 작은 원본은 늘리지 않고 하드 링크로 그대로 쓴다
+			if (width <= thumbnailWidth) {
+				try {
+					Files.createLink(thumbnail, original);
+				} catch (FileAlreadyExistsException ex) {
+					// 다른 노드가 먼저 만들었다
+				}
+
+				return;
+			}
+
+			// 큰 원본은 가로, 세로 모두 썸네일의 두 배 정도만 남기고 픽셀을 건너뛰며 읽어 디코딩에 드는 힙을 줄인다
+			int thumbnailHeight = Math.max(1, (int) Math.round((double) height * thumbnailWidth / width));
+			ImageReadParam param = reader.getDefaultReadParam();
+			param.setSourceSubsampling(Math.max(1, width / (thumbnailWidth * 2)),
+					Math.max(1, height / (thumbnailHeight * 2)), 0, 0);
+
+			writeAtomically(scale(reader.read(0, param), thumbnailHeight, type), thumbnail, type);
+		});
+	}
+
+	private void checkPixels(ImageReader reader) throws IOException {
+		if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+			throw RECIPE_IMAGE_TOO_LARGE_EXCEPTION;
+		}
+	}
+
+	private BufferedImage scale(BufferedImage source, int height, ImageType type) {
+		BufferedImage scaled = new BufferedImage(thumbnailWidth, height, type == ImageType.PNG ? TYPE_INT_ARGB : TYPE_INT_RGB);
+		Graphics2D graphics = scaled.createGraphics();
+
+		try {
+			graphics.setRenderingHint(KEY_INTERPOLATION, VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(source, 0, 0, thumbnailWidth, height, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		return scaled;
+	}
+
+	private void writeAtomically(BufferedImage image, Path target, ImageType type) throws IOException {
+		Path written = Files.createTempFile(tmp, "thumbnail-", null);
+
+		try {
+			if (!ImageIO.write(image, type.getFormatName(), written.toFile())) {
+				throw new IOException("no image writer for " + type);
+			}
+
+			Files.move(written, target, ATOMIC_MOVE, REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(written);
+		}
+	}
+
+	private ReentrantLock originalLock(String hash) {
+		return originalLocks[Math.floorMod(hash.hashCode(), originalLocks.length)];
+	}
+
+	// getWidth, getHeight 는 헤더만 읽는다, read 를 불러야 디코딩한다
+	private static void read(Path file, ImageReaderCallback callback) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+
+			if (!readers.hasNext()) {
+				throw RECIPE_IMAGE_IS_INVALID_EXCEPTION;
+			}
+
+			ImageReader reader = readers.next();
+
+			try {
+				reader.setInput(input, true, true);
+				callback.read(reader);
+			} catch (IIOException ex) {
+				throw RECIPE_IMAGE_IS_INVALID_EXCEPTION;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 한 디렉터리에 파일이 몰리지 않도록 해시 앞 네 글자로 두 단계 나눈다
+	private static Path resolve(Path base, String hash, String fileName) {
+		if (hash.length() != 64 || !hash.chars().allMatch(HexFormat::isHexDigit)) {
+			throw RECIPE_IMAGE_CAN_NOT_FIND_EXCEPTION;
+		}
+
+		return base.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName);
+	}
+
+	private static Path join(CompletableFuture<Path> inFlight) throws IOException {
+		try {
+			return inFlight.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private interface ImageReaderCallback {
+		void read(ImageReader reader) throws IOException;
+	}
+}
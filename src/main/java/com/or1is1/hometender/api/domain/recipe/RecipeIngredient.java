@@ -1,30 +1,40 @@
 package com.or1is1.hometender.api.domain.recipe;
 
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import com.or1is1.hometender.api.domain.ingredient.Ingredient;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Cache(usage = READ_WRITE, region = "recipeIngredient") // 컬렉션 캐시는 id 만 담으므로 원소도 캐시한다
 public class RecipeIngredient {
 	@Id
-	@GeneratedValue
+	@TimeOrderedId
 	private Long RecipeIngredientId;
 
 	@ManyToOne(fetch = LAZY)
 	@JoinColumn(name = "recipe_id")
 	private Recipe recipe;
 
+	// ingredient 와 subRecipe 중 하나만 있다
 	@ManyToOne(fetch = LAZY)
 	@JoinColumn(name = "ingredient_id")
 	private Ingredient ingredient;
 
+	// 하우스 시럽, 인퓨전처럼 다른 레시피를 재료로 쓴다
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "sub_recipe_id")
+	private Recipe subRecipe;
+
 	private float size;
 
 	@Enumerated(STRING)
@@ -32,9 +42,11 @@ public class RecipeIngredient {
 
 	private boolean option;
 
-	public RecipeIngredient(Recipe recipe, Ingredient ingredient, float size, SizeType sizeType, boolean option) {
+	public RecipeIngredient(Recipe recipe, Ingredient ingredient, Recipe subRecipe, float size, SizeType sizeType,
+	                        boolean option) {
 		this.recipe = recipe;
 		this.ingredient = ingredient;
+		this.subRecipe = subRecipe;
 		this.size = size;
 		this.sizeType = sizeType;
 		this.option = option;
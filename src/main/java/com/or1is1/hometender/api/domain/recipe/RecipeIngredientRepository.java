@@ -2,11 +2,35 @@ package com.or1is1.hometender.api.domain.recipe;
 
 import com.or1is1.hometender.api.domain.recipe.Recipe;
 import com.or1is1.hometender.api.domain.recipe.RecipeIngredient;
+import com.or1is1.hometender.api.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
 
 	public void deleteByRecipe(Recipe recipe);
+
+	public boolean existsBySubRecipe(Recipe subRecipe);
+
+	// 순환 검사: 레시피들이 바로 쓰는 하위 레시피, 캐시를 거치지 않고 DB 에서 읽는다
+	@Query("select distinct ri.subRecipe.recipeId from RecipeIngredient ri " +
+			"where ri.recipe.recipeId in :recipeIdList and ri.subRecipe is not null")
+	public List<Long> findSubRecipeIdByRecipeIdIn(@Param("recipeIdList") Collection<Long> recipeIdList);
+
+	// 재료를 고치면 그 재료를 쓰는 레시피의 응답도 바뀐다, [recipeId, writerId]
+	@Query("select distinct ri.recipe.recipeId, ri.recipe.writer.id from RecipeIngredient ri " +
+			"where ri.ingredient.ingredientId = :ingredientId")
+	public List<Object[]> findRecipeAndWriterByIngredientId(@Param("ingredientId") Long ingredientId);
+
+	// 장보기 추천: 회원의 레시피와 즐겨찾기한 레시피의 필수 재료, [recipeId, ingredientId, subRecipeId]
+	// 둘 중 하나는 null 이다, 하위 레시피는 RecipeExpansionResolver 로 기본 재료까지 푼다
+	@Query("select ri.recipe.recipeId, i.ingredientId, s.recipeId from RecipeIngredient ri " +
+			"left join ri.ingredient i left join ri.subRecipe s " +
+			"where ri.option = false and (ri.recipe.writer = :member " +
+			"or ri.recipe.recipeId in (select b.recipe.recipeId from Bookmark b where b.writer = :member))")
+	public List<Object[]> findRequiredByWriterOrBookmark(@Param("member") Member member);
 }
@@ -2,15 +2,28 @@ package com.or1is1.hometender.api.domain.recipe;
 
 import com.or1is1.hometender.api.domain.member.Member;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 	public List<Recipe> findByWriter(Member writer);
 
+	@EntityGraph(attributePaths = {"recipeIngredientList", "recipeIngredientList.ingredient", "recipeIngredientList.subRecipe"})
 	public Optional<Recipe> findByRecipeIdAndWriter(Long recipeId, Member writer);
 
-	public void deleteByRecipeIdAndWriter(Long recipeId, Member writer);
+	// fields 에 recipeIngredientList 가 없을 때, 재료를 함께 조회하지 않는다
+	public Optional<Recipe> findSummaryByRecipeIdAndWriter(Long recipeId, Member writer);
+
+	@EntityGraph(attributePaths = {"recipeIngredientList", "recipeIngredientList.ingredient", "recipeIngredientList.subRecipe"})
+	public List<Recipe> findByRecipeIdIn(Collection<Long> recipeIdList);
+
+	// 하위 레시피는 자신의 레시피만 쓸 수 있다
+	public long countByRecipeIdInAndWriter(Collection<Long> recipeIdList, Member writer);
+
+	// 바꾸거나 지운 사진을 다른 레시피가 아직 쓰는지 (RecipeImageCleaner)
+	public boolean existsByImageHash(String imageHash);
 }
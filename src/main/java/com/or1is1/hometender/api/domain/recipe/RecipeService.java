@@ -1,15 +1,27 @@
 package com.or1is1.hometender.api.domain.recipe;
 
+import com.or1is1.hometender.api.common.EntityCacheEvictor;
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.domain.member.Member;
+import com.or1is1.hometender.api.domain.member.MemberRepository;
+import com.or1is1.hometender.api.domain.sync.SyncService;
 import com.or1is1.hometender.api.dto.GetRecipeListResponse;
 import com.or1is1.hometender.api.dto.RecipeDto;
+import com.or1is1.hometender.api.dto.RecipeExpansionResponse;
+import com.or1is1.hometender.api.dto.RecipeIngredientDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.or1is1.hometender.api.common.DomainException.*;
+import static com.or1is1.hometender.api.domain.sync.SyncType.RECIPE;
+import static com.or1is1.hometender.api.dto.RecipeDto.RECIPE_INGREDIENT_LIST;
 
 @Service
 @RequiredArgsConstructor
@@ -18,9 +30,17 @@ public class RecipeService {
 
 	private final RecipeRepository recipeRepository;
 	private final RecipeIngredientRepository recipeIngredientRepository;
+	private final MemberRepository memberRepository;
+	private final RecipeExpansionResolver recipeExpansionResolver;
+	private final EntityCacheEvictor entityCacheEvictor;
+	private final SyncService syncService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
-	public void post(Long loginId, RecipeDto recipeDto) {
+	public Long post(Long loginId, RecipeDto recipeDto) {
+
+		// 새 레시피는 아직 어떤 레시피의 하위 레시피도 아니므로 순환이 생기지 않는다
+		checkSubRecipe(null, loginId, recipeDto.recipeIngredientList());
 
 		Recipe recipe = new Recipe(
 				new Member(loginId),
@@ -31,7 +51,10 @@ public class RecipeService {
 				recipeDto.manual()
 		);
 
-		recipeRepository.save(recipe);
+		Long recipeId = recipeRepository.save(recipe).getRecipeId();
+		syncService.upsert(loginId, RECIPE, recipeId);
+
+		return recipeId;
 	}
 
 	public List<GetRecipeListResponse> getList(Long loginId) {
@@ -43,15 +66,29 @@ public class RecipeService {
 
 	public RecipeDto get(Long recipeId, Long loginId) {
 
-		Recipe recipe = recipeRepository.findByRecipeIdAndWriter(recipeId, new Member(loginId))
-				.orElseThrow(() -> INGREDIENT_CAN_NOT_FIND_EXCEPTION);
+		return get(recipeId, loginId, Fields.ALL);
+	}
+
+	public RecipeDto get(Long recipeId, Long loginId, Fields fields) {
+
+		Member writer = new Member(loginId);
+		Optional<Recipe> recipe = fields.includes(RECIPE_INGREDIENT_LIST)
+				? recipeRepository.findByRecipeIdAndWriter(recipeId, writer)
+				: recipeRepository.findSummaryByRecipeIdAndWriter(recipeId, writer);
 
-		return new RecipeDto(recipe);
+		return new RecipeDto(recipe.orElseThrow(() -> INGREDIENT_CAN_NOT_FIND_EXCEPTION), fields);
 	}
 
 	@Transactional
 	public void put(Long recipeId, Long loginId, RecipeDto recipeDto) {
 
+		// 하위 레시피를 넣는 수정은 회원별로 한 번에 하나씩 한다, 두 레시피가 동시에 서로를 넣으면 각자의 검사로는 순환을 못 찾는다
+		// MySQL 은 첫 읽기에서 스냅샷을 만드므로, 잠금을 가장 먼저 잡아야 뒤의 읽기가 앞선 수정의 커밋을 본다
+		if (recipeDto.recipeIngredientList().stream().anyMatch(dto -> dto.subRecipeId() != null)) {
+			memberRepository.findForUpdateById(loginId)
+					.orElseThrow(() -> MEMBER_CAN_NOT_FIND_EXCEPTION);
+		}
+
 		Recipe recipe = recipeRepository.findByRecipeIdAndWriter(recipeId, new Member(loginId))
 				.orElseThrow(() -> RECIPE_CAN_NOT_FIND_EXCEPTION);
 
@@ -59,6 +96,7 @@ public class RecipeService {
 			throw RECIPE_IS_NOT_MINE_EXCEPTION;
 		}
 
+		checkSubRecipe(recipeId, loginId, recipeDto.recipeIngredientList());
 		recipeIngredientRepository.deleteByRecipe(recipe);
 
 		recipe.put(
@@ -68,10 +106,109 @@ public class RecipeService {
 				recipeDto.recipeIngredientList(),
 				recipeDto.manual()
 		);
+
+		// mappedBy 쪽 원소 삭제는 레시피의 컬렉션 캐시를 갱신하지 않는다
+		entityCacheEvictor.evictRecipe(recipeId);
+		syncService.upsert(loginId, RECIPE, recipeId);
+	}
+
+	public RecipeExpansionResponse getExpansion(Long recipeId, Long loginId) {
+		checkWriter(recipeId, loginId);
+
+		return new RecipeExpansionResponse(recipeExpansionResolver.resolve(recipeId));
+	}
+
+	// 업로드 전에 확인해 남의 레시피로 파일이 쌓이지 않게 한다
+	public void checkWriter(Long recipeId, Long loginId) {
+		recipeRepository.findSummaryByRecipeIdAndWriter(recipeId, new Member(loginId))
+				.orElseThrow(() -> RECIPE_CAN_NOT_FIND_EXCEPTION);
+	}
+
+	// 파일은 호출 전에 저장해 둔다, open-in-view 를 꺼 두었으므로 업로드하는 동안 DB 연결을 잡지 않는다
+	// 이전 사진 파일은 다른 레시피가 함께 쓸 수 있으므로, 커밋 뒤에 RecipeImageCleaner 가 확인하고 지운다
+	@Transactional
+	public void putImage(Long recipeId, Long loginId, RecipeImage image) {
+		Recipe recipe = recipeRepository.findSummaryByRecipeIdAndWriter(recipeId, new Member(loginId))
+				.orElseThrow(() -> RECIPE_CAN_NOT_FIND_EXCEPTION);
+
+		RecipeImage previous = recipe.getImage();
+		recipe.changeImage(image);
+
+		if (previous != null && (image == null || !previous.hash().equals(image.hash()))) {
+			eventPublisher.publishEvent(new RecipeImageReleasedEvent(previous.hash()));
+		}
+
+		syncService.upsert(loginId, RECIPE, recipeId);
+	}
+
+	public RecipeImage getImage(Long recipeId, Long loginId) {
+		Recipe recipe = recipeRepository.findSummaryByRecipeIdAndWriter(recipeId, new Member(loginId))
+				.orElseThrow(() -> RECIPE_CAN_NOT_FIND_EXCEPTION);
+
+		if (recipe.getImage() == null) {
+			throw RECIPE_IMAGE_CAN_NOT_FIND_EXCEPTION;
+		}
+
+		return recipe.getImage();
 	}
 
 	@Transactional
 	public void delete(Long recipeId, Long loginId) {
-		recipeRepository.deleteByRecipeIdAndWriter(recipeId, new Member(loginId));
+		if (recipeIngredientRepository.existsBySubRecipe(new Recipe(recipeId))) {
+			throw RECIPE_IS_IN_USE_EXCEPTION;
+		}
+
+		recipeRepository.findSummaryByRecipeIdAndWriter(recipeId, new Member(loginId)).ifPresent(recipe -> {
+			recipeRepository.delete(recipe);
+
+			if (recipe.getImage() != null) {
+				eventPublisher.publishEvent(new RecipeImageReleasedEvent(recipe.getImage().hash()));
+			}
+		});
+
+		entityCacheEvictor.evictRecipe(recipeId);
+		syncService.delete(loginId, RECIPE, recipeId);
+	}
+
+	// 재료와 하위 레시피 중 하나만, 하위 레시피는 자신의 레시피만
+	// 수정하는 레시피가 하위 레시피에서 (하위 레시피를 거쳐) 닿으면 순환이다
+	// 전개 캐시는 다른 노드의 수정이나 replica 지연으로 오래됐을 수 있으므로, 쓰기 트랜잭션 안에서 DB 를 따라간다
+	private void checkSubRecipe(Long recipeId, Long loginId, List<RecipeIngredientDto> recipeIngredientList) {
+		Set<Long> subRecipeIdSet = new HashSet<>();
+
+		for (RecipeIngredientDto recipeIngredientDto : recipeIngredientList) {
+			if ((recipeIngredientDto.ingredientId() == null) == (recipeIngredientDto.subRecipeId() == null)) {
+				throw RECIPE_INGREDIENT_IS_INVALID_EXCEPTION;
+			}
+
+			if (recipeIngredientDto.subRecipeId() != null) {
+				subRecipeIdSet.add(recipeIngredientDto.subRecipeId());
+			}
+		}
+
+		if (subRecipeIdSet.isEmpty()) {
+			return;
+		}
+
+		if (recipeRepository.countByRecipeIdInAndWriter(subRecipeIdSet, new Member(loginId)) != subRecipeIdSet.size()) {
+			throw RECIPE_CAN_NOT_FIND_EXCEPTION;
+		}
+
+		if (recipeId == null) {
+			return;
+		}
+
+		Set<Long> visited = new HashSet<>();
+		Set<Long> next = subRecipeIdSet;
+
+		while (!next.isEmpty()) {
+			if (next.contains(recipeId)) {
+				throw RECIPE_INGREDIENT_IS_CIRCULAR_EXCEPTION;
+			}
+
+			visited.addAll(next);
+			next = new HashSet<>(recipeIngredientRepository.findSubRecipeIdByRecipeIdIn(next));
+			next.removeAll(visited);
+		}
 	}
 }
@@ -1,7 +1,17 @@
 package com.or1is1.hometender.api.domain.recipe;
 
+import lombok.RequiredArgsConstructor;
+
+// 전개(RecipeExpansionResolver)할 때 ml 로 바꿔 더한다
+@RequiredArgsConstructor
 public enum SizeType {
-	ML,
-	OZ,
-	DASH
+	ML(1),
+	OZ(29.5735),
+	DASH(0.92);
+
+	private final double ml;
+
+	public double toMl(float size) {
+		return size * ml;
+	}
 }
@@ -1,6 +1,7 @@
 package com.or1is1.hometender.api.domain.shelf;
 
 import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import com.or1is1.hometender.api.common.TimeOrderedId;
 import com.or1is1.hometender.api.domain.member.Member;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,7 +15,7 @@ import static lombok.AccessLevel.PROTECTED;
 @NoArgsConstructor(access = PROTECTED)
 public class Shelf {
 	@Id
-	@GeneratedValue
+	@TimeOrderedId
 	private Long shelfId;
 
 	@ManyToOne(fetch = LAZY)
@@ -2,15 +2,20 @@ package com.or1is1.hometender.api.domain.shelf;
 
 import com.or1is1.hometender.api.common.StringConst;
 import com.or1is1.hometender.api.dto.IngredientDto;
+import com.or1is1.hometender.api.dto.ShoppingListResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.or1is1.hometender.api.common.DomainException.SHELF_ALREADY_EXISTS_EXCEPTION;
+
 @RestController
 @RequestMapping("/api/shelf")
 @RequiredArgsConstructor
 public class ShelfController {
+	private static final int MAX_BUDGET = 20;
 
 	private final ShelfService shelfService;
 
@@ -18,7 +23,12 @@ public class ShelfController {
 	public void post(@PathVariable Long ingredientId,
 	                 @SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId) {
 
-		shelfService.post(ingredientId, loginId);
+		// 같은 재료를 동시에 두 번 넣으면 확인을 둘 다 통과하고 커밋에서 유니크 제약에 걸린다
+		try {
+			shelfService.post(ingredientId, loginId);
+		} catch (DataIntegrityViolationException ex) {
+			throw SHELF_ALREADY_EXISTS_EXCEPTION;
+		}
 	}
 
 	@GetMapping
@@ -27,6 +37,14 @@ public class ShelfController {
 		return shelfService.getList(loginId);
 	}
 
+	// 선반에 더할 병 budget 개로 새로 만들 수 있는 레시피가 가장 많은 조합
+	@GetMapping("/shopping-list")
+	public ShoppingListResponse getShoppingList(@SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId,
+	                                            @RequestParam(defaultValue = "3") int budget) {
+
+		return shelfService.getShoppingList(loginId, Math.min(Math.max(budget, 0), MAX_BUDGET));
+	}
+
 	@DeleteMapping("/{ingredientId}")
 	public void delete(@PathVariable Long ingredientId,
 	                   @SessionAttribute(StringConst.LOGIN_MEMBER) Long loginId) {
@@ -2,12 +2,21 @@ package com.or1is1.hometender.api.domain.shelf;
 
 import com.or1is1.hometender.api.domain.ingredient.Ingredient;
 import com.or1is1.hometender.api.domain.member.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ShelfRepository extends JpaRepository<Shelf, Long> {
+	@EntityGraph(attributePaths = "ingredient")
 	List<Shelf> findByWriter(Member writer);
 
+	@Query("select s.ingredient.ingredientId from Shelf s where s.writer = :writer")
+	List<Long> findIngredientIdByWriter(@Param("writer") Member writer);
+
+	boolean existsByWriterAndIngredient(Member writer, Ingredient ingredient);
+
 	void deleteByWriterAndIngredient(Member writer, Ingredient ingredient);
 }
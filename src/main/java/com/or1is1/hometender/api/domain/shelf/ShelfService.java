@@ -1,13 +1,30 @@
 package com.or1is1.hometender.api.domain.shelf;
 
 import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import com.or1is1.hometender.api.domain.ingredient.IngredientRepository;
+import com.or1is1.hometender.api.domain.recipe.RecipeExpansionResolver;
+import com.or1is1.hometender.api.domain.recipe.RecipeIngredientRepository;
+import com.or1is1.hometender.api.domain.recipe.RecipeRepository;
+import com.or1is1.hometender.api.dto.GetRecipeListResponse;
 import com.or1is1.hometender.api.dto.IngredientDto;
 import com.or1is1.hometender.api.domain.member.Member;
+import com.or1is1.hometender.api.domain.sync.SyncService;
+import com.or1is1.hometender.api.dto.ShoppingListResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.or1is1.hometender.api.domain.sync.SyncType.SHELF;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
@@ -15,11 +32,26 @@ import java.util.List;
 public class ShelfService {
 
 	private final ShelfRepository shelfRepository;
+	private final IngredientRepository ingredientRepository;
+	private final RecipeRepository recipeRepository;
+	private final RecipeIngredientRepository recipeIngredientRepository;
+	private final RecipeExpansionResolver recipeExpansionResolver;
+	private final ShoppingListOptimizer shoppingListOptimizer;
+	private final SyncService syncService;
 
 	@Transactional
 	public void post(Long ingredientId, Long loginId) {
 
-		shelfRepository.save(new Shelf(new Member(loginId), new Ingredient(ingredientId)));
+		Member writer = new Member(loginId);
+		Ingredient ingredient = new Ingredient(ingredientId);
+
+		// (writer_id, ingredient_id) 는 유니크, 이미 있으면 그대로 둔다
+		if (shelfRepository.existsByWriterAndIngredient(writer, ingredient)) {
+			return;
+		}
+
+		shelfRepository.save(new Shelf(writer, ingredient));
+		syncService.upsert(loginId, SHELF, ingredientId);
 	}
 
 	public List<IngredientDto> getList(Long loginId) {
@@ -29,9 +61,49 @@ public class ShelfService {
 				.toList();
 	}
 
+	// 선반과 레시피 재료는 id 만 읽고, 추천된 재료와 레시피만 엔티티로 조회한다
+	public ShoppingListResponse getShoppingList(Long loginId, int budget) {
+
+		Member writer = new Member(loginId);
+		Set<Long> shelf = new HashSet<>(shelfRepository.findIngredientIdByWriter(writer));
+		Map<Long, List<Long>> missingByRecipe = new HashMap<>();
+
+		for (Object[] row : recipeIngredientRepository.findRequiredByWriterOrBookmark(writer)) {
+			List<Long> missing = missingByRecipe.computeIfAbsent((Long) row[0], key -> new ArrayList<>());
+			Collection<Long> ingredientIdList = row[2] == null
+					? List.of((Long) row[1])
+					: recipeExpansionResolver.resolve((Long) row[2]).ingredientIdSet();
+
+			for (Long ingredientId : ingredientIdList) {
+				if (!shelf.contains(ingredientId)) {
+					missing.add(ingredientId);
+				}
+			}
+		}
+
+		ShoppingList shoppingList = shoppingListOptimizer.optimize(missingByRecipe, budget);
+
+		Map<Long, Ingredient> ingredientById = ingredientRepository.findAllById(shoppingList.ingredientIdList())
+				.stream()
+				.collect(toMap(Ingredient::getIngredientId, identity()));
+
+		// 전개 캐시에 남은 재료가 그 사이 지워졌을 수 있으므로 조회된 재료만 내려준다
+		List<Long> ingredientIdList = shoppingList.ingredientIdList().stream()
+				.filter(ingredientById::containsKey)
+				.toList();
+
+		return new ShoppingListResponse(
+				ingredientIdList,
+				ingredientIdList.stream().map(ingredientById::get).map(IngredientDto::new).toList(),
+				recipeRepository.findAllById(shoppingList.recipeIdList()).stream().map(GetRecipeListResponse::new).toList(),
+				shoppingList.complete()
+		);
+	}
+
 	@Transactional
 	public void delete(Long ingredientId, Long loginId) {
 
 		shelfRepository.deleteByWriterAndIngredient(new Member(loginId), new Ingredient(ingredientId));
+		syncService.delete(loginId, SHELF, ingredientId);
 	}
 }
@@ -0,0 +1,11 @@
+package com.or1is1.hometender.api.domain.shelf;
+
+import java.util.List;
+
+// complete 가 false 면 시간 예산 안에 탐색을 마치지 못한 중간 최선이다
+public record ShoppingList(
+		List<Long> ingredientIdList,
+		List<Long> recipeIdList,
+		boolean complete
+) {
+}
@@ -0,0 +1,355 @@
+package com.or1is1.hometender.api.domain.shelf;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 장보기 추천: 새로 K 병을 사서 만들 수 있게 되는 레시피가 가장 많은 재료 조합을 찾는다
+// 레시피 하나의 부족한 필수 재료를 한 묶음으로 보고 (그 묶음으로 완성되는 레시피 수 / 병 수) 가 큰 묶음부터 사는 탐욕법이다
+// 처음 branch-depth 단계는 상위 branching 개 묶음마다 fork 해 나눠 찾고, 상한이 지금까지의 최선 이하인 가지는 버린다
+// 재료 집합은 후보 재료 번호의 long[] 비트셋, time-budget 이 지나면 그때까지의 최선을 complete=false 로 돌려준다
+@Component
+public class ShoppingListOptimizer {
+	private final ForkJoinPool pool;
+	private final Duration timeBudget;
+	private final int branching;
+	private final int branchDepth;
+
+	public ShoppingListOptimizer(@Value("${hometender.shopping-list.parallelism}") int parallelism,
+	                             @Value("${hometender.shopping-list.time-budget}") Duration timeBudget,
+	                             @Value("${hometender.shopping-list.branching}") int branching,
+	                             @Value("${hometender.shopping-list.branch-depth}") int branchDepth) {
+
+		this.pool = new ForkJoinPool(parallelism);
+		this.timeBudget = timeBudget;
+		this.branching = branching;
+		this.branchDepth = branchDepth;
+	}
+
+	// missingByRecipe: 레시피 id -> 선반에 없는 필수 재료 id
+	public ShoppingList optimize(Map<Long, ? extends Collection<Long>> missingByRecipe, int budget) {
+		long deadline = System.nanoTime() + timeBudget.toNanos();
+
+		Map<Long, Integer> indexByIngredient = new HashMap<>();
+		List<Long> ingredientIdList = new ArrayList<>();
+		List<Long> recipeIdList = new ArrayList<>();
+		List<Collection<Long>> missingList = new ArrayList<>();
+
+		missingByRecipe.forEach((recipeId, missing) -> {
+			// 이미 만들 수 있거나 예산으로는 못 만드는 레시피는 후보에서 뺀다
+			if (missing.isEmpty() || missing.stream().distinct().count() > budget) {
+				return;
+			}
+
+			recipeIdList.add(recipeId);
+			missingList.add(missing);
+
+			for (Long ingredientId : missing) {
+				indexByIngredient.computeIfAbsent(ingredientId, key -> {
+					ingredientIdList.add(key);
+
+					return ingredientIdList.size() - 1;
+				});
+			}
+		});
+
+		int words = (ingredientIdList.size() + 63) / 64;
+		long[][] missing = new long[missingList.size()][];
+
+		for (int recipe = 0; recipe < missing.length; recipe++) {
+			missing[recipe] = new long[words];
+
+			for (Long ingredientId : missingList.get(recipe)) {
+				int index = indexByIngredient.get(ingredientId);
+				missing[recipe][index >>> 6] |= 1L << index;
+			}
+		}
+
+		Run run = new Run(missing, ingredientIdList.size(), budget, deadline);
+
+		// 탐욕법 한 번으로 기준을 잡은 뒤 가지를 나눠 찾는다, 기준이 높을수록 많이 버린다
+		pool.invoke(run.new Search(new long[words], 0, branchDepth));
+		pool.invoke(run.new Search(new long[words], 0, 0));
+
+		Candidate best = run.best.get();
+		List<Long> chosenIngredientIdList = new ArrayList<>();
+		List<Long> unlockedRecipeIdList = new ArrayList<>();
+
+		for (int index = 0; index < ingredientIdList.size(); index++) {
+			if ((best.chosen()[index >>> 6] & (1L << index)) != 0) {
+				chosenIngredientIdList.add(ingredientIdList.get(index));
+			}
+		}
+
+		for (int recipe = 0; recipe < missing.length; recipe++) {
+			if (covered(missing[recipe], best.chosen())) {
+				unlockedRecipeIdList.add(recipeIdList.get(recipe));
+			}
+		}
+
+		return new ShoppingList(chosenIngredientIdList, unlockedRecipeIdList, !run.timedOut.get());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	private static boolean covered(long[] missing, long[] chosen) {
+		for (int word = 0; word < missing.length; word++) {
+			if ((missing[word] & ~chosen[word]) != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int residual(long[] missing, long[] chosen) {
+		int count = 0;
+
+		for (int word = 0; word < missing.length; word++) {
+			count += Long.bitCount(missing[word] & ~chosen[word]);
+		}
+
+		return count;
+	}
+
+	private static int lowest(long[] bits) {
+		for (int word = 0; word < bits.length; word++) {
+			if (bits[word] != 0) {
+				return word * 64 + Long.numberOfTrailingZeros(bits[word]);
+			}
+		}
+
+		return -1;
+	}
+
+	private static long[] union(long[] missing, long[] chosen) {
+		long[] union = chosen.clone();
+
+		for (int word = 0; word < missing.length; word++) {
+			union[word] |= missing[word];
+		}
+
+		return union;
+	}
+
+	private record Candidate(
+			long[] chosen,
+			int used,
+			int unlocked
+	) {
+	}
+
+	private record Bundle(
+			long[] residual,
+			int cost,
+			double score
+	) {
+	}
+
+	// 호출 한 번의 탐색 상태, 최선은 모든 가지가 함께 본다
+	private class Run {
+		private final long[][] missing;
+		private final int ingredients;
+		private final int budget;
+		private final long deadline;
+		private final AtomicReference<Candidate> best;
+		private final AtomicBoolean timedOut = new AtomicBoolean();
+
+		Run(long[][] missing, int ingredients, int budget, long deadline) {
+			this.missing = missing;
+			this.ingredients = ingredients;
+			this.budget = budget;
+			this.deadline = deadline;
+			this.best = new AtomicReference<>(new Candidate(new long[(ingredients + 63) / 64], 0, -1));
+		}
+
+		private boolean isOver() {
+			if (System.nanoTime() - deadline > 0) {
+				timedOut.set(true);
+
+				return true;
+			}
+
+			return false;
+		}
+
+		// 레시피 수가 많을수록, 같으면 병이 적을수록 낫다
+		private void offer(long[] chosen, int used) {
+			int unlocked = 0;
+
+			for (long[] recipe : missing) {
+				if (covered(recipe, chosen)) {
+					unlocked++;
+				}
+			}
+
+			Candidate candidate = new Candidate(chosen, used, unlocked);
+
+			best.accumulateAndGet(candidate, (current, offered) ->
+					offered.unlocked() > current.unlocked()
+							|| offered.unlocked() == current.unlocked() && offered.used() < current.used()
+							? offered : current);
+		}
+
+		// 이미 완성된 레시피 + 남은 예산으로 완성할 수 있는 레시피, 실제로는 이보다 많을 수 없다
+		private int upperBound(long[] chosen, int remaining) {
+			int bound = 0;
+
+			for (long[] recipe : missing) {
+				if (residual(recipe, chosen) <= remaining) {
+					bound++;
+				}
+			}
+
+			return bound;
+		}
+
+		// 점수가 높은 묶음 limit 개, 같은 묶음은 한 번만
+		// 묶음으로 완성되는 레시피는 부족분이 묶음의 부분집합인 레시피, 부족분의 가장 낮은 재료 번호로 모아 두고 그 안에서만 찾는다
+		private List<Bundle> rank(long[] chosen, int remaining, int limit) {
+			long[][] residuals = new long[missing.length][];
+			int[] costs = new int[missing.length];
+			int count = 0;
+			List<List<Integer>> byLowest = new ArrayList<>(ingredients);
+
+			for (int ingredient = 0; ingredient < ingredients; ingredient++) {
+				byLowest.add(new ArrayList<>());
+			}
+
+			for (long[] recipe : missing) {
+				int cost = residual(recipe, chosen);
+
+				if (cost == 0 || cost > remaining) {
+					continue;
+				}
+
+				long[] residual = new long[recipe.length];
+
+				for (int word = 0; word < recipe.length; word++) {
+					residual[word] = recipe[word] & ~chosen[word];
+				}
+
+				byLowest.get(lowest(residual)).add(count);
+				residuals[count] = residual;
+				costs[count] = cost;
+				count++;
+			}
+
+			List<Bundle> bundles = new ArrayList<>(limit + 1);
+
+			for (int candidate = 0; candidate < count; candidate++) {
+				if (isOver()) {
+					break;
+				}
+
+				long[] residual = residuals[candidate];
+				int cost = costs[candidate];
+
+				if (bundles.stream().anyMatch(ranked -> Arrays.equals(ranked.residual(), residual))) {
+					continue;
+				}
+
+				int gain = 0;
+
+				for (int word = 0; word < residual.length; word++) {
+					for (long bits = residual[word]; bits != 0; bits &= bits - 1) {
+						for (int other : byLowest.get(word * 64 + Long.numberOfTrailingZeros(bits))) {
+							if (costs[other] <= cost && covered(residuals[other], residual)) {
+								gain++;
+							}
+						}
+					}
+				}
+
+				double score = (double) gain / cost;
+				int position = 0;
+
+				while (position < bundles.size() && bundles.get(position).score() >= score) {
+					position++;
+				}
+
+				if (position < limit) {
+					bundles.add(position, new Bundle(residual, cost, score));
+
+					if (bundles.size() > limit) {
+						bundles.remove(limit);
+					}
+				}
+			}
+
+			return bundles;
+		}
+
+		private class Search extends RecursiveAction {
+			private final long[] chosen;
+			private final int used;
+			private final int depth;
+
+			Search(long[] chosen, int used, int depth) {
+				this.chosen = chosen;
+				this.used = used;
+				this.depth = depth;
+			}
+
+			@Override
+			protected void compute() {
+				long[] current = chosen;
+				int currentUsed = used;
+				int currentDepth = depth;
+
+				while (true) {
+					if (isOver()) {
+						offer(current, currentUsed);
+
+						return;
+					}
+
+					if (upperBound(current, budget - currentUsed) <= best.get().unlocked()) {
+						return;
+					}
+
+					boolean branch = currentDepth < branchDepth;
+					List<Bundle> bundles = rank(current, budget - currentUsed, branch ? branching : 1);
+
+					if (bundles.isEmpty()) {
+						offer(current, currentUsed);
+
+						return;
+					}
+
+					if (branch && bundles.size() > 1) {
+						long[] base = current;
+						int nextUsed = currentUsed;
+						int nextDepth = currentDepth + 1;
+
+						invokeAll(bundles.stream()
+								.map(bundle -> new Search(union(bundle.residual(), base), nextUsed + bundle.cost(), nextDepth))
+								.toList());
+
+						return;
+					}
+
+					Bundle bundle = bundles.get(0);
+					current = union(bundle.residual(), current);
+					currentUsed += bundle.cost();
+					currentDepth++;
+				}
+			}
+		}
+	}
+}
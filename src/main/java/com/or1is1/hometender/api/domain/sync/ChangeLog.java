@@ -0,0 +1,47 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import com.or1is1.hometender.api.common.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+import static jakarta.persistence.EnumType.STRING;
+import static lombok.AccessLevel.PROTECTED;
+
+// 회원별 변경 기록, (회원, 대상)마다 마지막 변경 한 줄만 남겨 쓰는 시점에 압축한다
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class ChangeLog {
+	@Id
+	@TimeOrderedId
+	private Long changeLogId;
+
+	private Long memberId;
+
+	@Enumerated(STRING)
+	@Column(name = "entity_type")
+	private SyncType type;
+
+	private Long entityId;
+
+	private long seq;
+
+	private boolean deleted; // tombstone
+
+	private Instant changedAt;
+
+	public ChangeLog(Long memberId, SyncType type, Long entityId) {
+		this.memberId = memberId;
+		this.type = type;
+		this.entityId = entityId;
+	}
+
+	public void change(long seq, boolean deleted, Instant changedAt) {
+		this.seq = seq;
+		this.deleted = deleted;
+		this.changedAt = changedAt;
+	}
+}
@@ -0,0 +1,31 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 살아 있는 대상은 (회원, 대상)마다 한 줄이므로 tombstone 만 보존 기간이 지나면 지운다
+@Slf4j
+@Component
+public class ChangeLogCompactor {
+	private final SyncService syncService;
+	private final Duration tombstoneRetention;
+
+	public ChangeLogCompactor(SyncService syncService,
+	                          @Value("${hometender.sync.tombstone-retention}") Duration tombstoneRetention) {
+
+		this.syncService = syncService;
+		this.tombstoneRetention = tombstoneRetention;
+	}
+
+	@Scheduled(cron = "${hometender.sync.compaction-cron}")
+	public void compact() {
+		int deletedCount = syncService.compactTombstones(Instant.now().minus(tombstoneRetention));
+
+		log.info("compactTombstones | deletedCount = {}", deletedCount);
+	}
+}
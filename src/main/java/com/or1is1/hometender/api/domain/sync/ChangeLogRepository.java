@@ -0,0 +1,24 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+	Optional<ChangeLog> findByMemberIdAndTypeAndEntityId(Long memberId, SyncType type, Long entityId);
+
+	List<ChangeLog> findByMemberIdAndSeqGreaterThanOrderBySeq(Long memberId, long seq, Limit limit);
+
+	// 회원별로 지울 tombstone 의 가장 큰 순번, [memberId, maxSeq]
+	@Query("select c.memberId, max(c.seq) from ChangeLog c where c.deleted = true and c.changedAt < :before group by c.memberId")
+	List<Object[]> findTombstoneFloors(Instant before);
+
+	@Modifying
+	@Query("delete from ChangeLog c where c.deleted = true and c.memberId = :memberId and c.seq <= :seq")
+	int deleteTombstones(Long memberId, long seq);
+}
@@ -0,0 +1,116 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// 연결 하나의 보낼 이벤트, 느린 연결이 큐를 채우면 쌓인 알림을 버리고 resync 하나로 바꾼다
+// 보내기는 연결마다 한 번에 하나씩 sender 스레드에서 하므로 알림을 만든 요청 스레드는 기다리지 않는다
+// 받지 않는 클라이언트에 보내면 sender 스레드가 emitter 를 잡은 채 막히므로, 오래 막힌 연결은 abortIfStalled 로 끊는다
+class SseConnection {
+	static final String RESYNC = "resync";
+
+	@Getter
+	private final Long memberId;
+	@Getter
+	private final SseEmitter emitter;
+	private final ArrayBlockingQueue<SseEventBuilder> queue;
+	private final Executor sender;
+	private final Consumer<SseConnection> onClose;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private final AtomicBoolean stalled = new AtomicBoolean();
+	private volatile long sendStartedAt; // 0 이면 보내는 중이 아니다
+
+	SseConnection(Long memberId, SseEmitter emitter, int queueCapacity, Executor sender, Consumer<SseConnection> onClose) {
+		this.memberId = memberId;
+		this.emitter = emitter;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.sender = sender;
+		this.onClose = onClose;
+	}
+
+	void send(SseEventBuilder event) {
+		if (closed.get()) {
+			return;
+		}
+
+		synchronized (queue) {
+			if (!queue.offer(event)) {
+				// 클라이언트는 resync 를 받으면 /api/sync 로 마지막 cursor 이후를 다시 받는다
+				queue.clear();
+				queue.offer(SseEmitter.event().name(RESYNC).data(RESYNC));
+			}
+		}
+
+		if (draining.compareAndSet(false, true)) {
+			try {
+				sender.execute(this::drain);
+			} catch (RejectedExecutionException ex) {
+				// sender 스레드가 모두 막혀 있으면 끊는다, 클라이언트는 재연결해 /api/sync 로 받는다
+				emitter.complete();
+				close();
+			}
+		}
+	}
+
+	// 보내는 스레드가 emitter 를 잡고 있으므로 emitter 는 건드리지 않고 연결만 닫는다
+	// 막힌 보내기는 커넥터의 쓰기 제한 시간(server.tomcat.connection-timeout)이 지나면 실패하고, 늦게라도 보내지면 write 에서 닫는다
+	boolean abortIfStalled(long now, long writeTimeout) {
+		long started = sendStartedAt;
+
+		if (started == 0 || now - started <= writeTimeout || !stalled.compareAndSet(false, true)) {
+			return false;
+		}
+
+		close();
+
+		return true;
+	}
+
+	void close() {
+		if (closed.compareAndSet(false, true)) {
+			queue.clear();
+			onClose.accept(this);
+		}
+	}
+
+	private void drain() {
+		do {
+			SseEventBuilder event;
+
+			while (!closed.get() && (event = queue.poll()) != null) {
+				write(event);
+			}
+
+			draining.set(false);
+		} while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+	}
+
+	private void write(SseEventBuilder event) {
+		sendStartedAt = System.nanoTime();
+
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException ex) {
+			// 끊긴 연결
+			emitter.completeWithError(ex);
+			close();
+
+			return;
+		} finally {
+			sendStartedAt = 0;
+		}
+
+		if (stalled.get()) {
+			emitter.complete();
+		}
+	}
+}
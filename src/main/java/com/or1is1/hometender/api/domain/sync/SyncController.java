@@ -0,0 +1,35 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import com.or1is1.hometender.api.dto.SyncResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+	private static final int MAX_LIMIT = 500;
+
+	private final SyncService syncService;
+	private final SyncEventBroadcaster syncEventBroadcaster;
+
+	// 처음에는 cursor=0, 이후에는 응답의 cursor 를 hasMore 가 false 가 될 때까지 넘긴다
+	@GetMapping
+	public SyncResponse get(@SessionAttribute(LOGIN_MEMBER) Long memberId,
+	                        @RequestParam(defaultValue = "0") long cursor,
+	                        @RequestParam(defaultValue = "100") int limit) {
+
+		return syncService.get(memberId, Math.max(cursor, 0), Math.min(Math.max(limit, 1), MAX_LIMIT));
+	}
+
+	// event: change 의 id 는 변경 순번, 받으면 /api/sync 로 본문을 받는다, event: resync 면 마지막 cursor 부터 다시 받는다
+	@GetMapping(value = "/events", produces = TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter events(@SessionAttribute(LOGIN_MEMBER) Long memberId) {
+
+		return syncEventBroadcaster.connect(memberId);
+	}
+}
@@ -0,0 +1,33 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 회원별 순번, 변경을 기록할 때 비관적 락으로 잡아 회원 안에서 순번이 단조 증가한다
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class SyncCursor {
+	@Id
+	private Long memberId;
+
+	private long lastSeq;
+
+	private long tombstoneFloor; // 이 순번 이하의 tombstone 은 지워졌다
+
+	public SyncCursor(Long memberId) {
+		this.memberId = memberId;
+	}
+
+	public long next() {
+		return ++lastSeq;
+	}
+
+	public void raiseTombstoneFloor(long seq) {
+		tombstoneFloor = Math.max(tombstoneFloor, seq);
+	}
+}
@@ -0,0 +1,12 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface SyncCursorRepository extends JpaRepository<SyncCursor, Long> {
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<SyncCursor> findForUpdateByMemberId(Long memberId);
+}
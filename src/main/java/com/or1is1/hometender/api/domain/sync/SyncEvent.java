@@ -0,0 +1,10 @@
+package com.or1is1.hometender.api.domain.sync;
+
+public record SyncEvent(
+		Long memberId,
+		SyncType type,
+		Long entityId,
+		long seq,
+		boolean deleted
+) {
+}
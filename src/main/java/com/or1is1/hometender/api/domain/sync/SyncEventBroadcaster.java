@@ -0,0 +1,172 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import com.or1is1.hometender.api.dto.SyncChange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.or1is1.hometender.api.common.DomainException.REQUEST_TOO_MANY_EXCEPTION;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+// 회원의 모든 기기로 변경 알림을 보낸다, 본문은 /api/sync 로 받는다
+// 쉬는 연결은 비동기 요청(SseEmitter)이라 스레드를 잡지 않고 커넥터가 소켓만 들고 있다
+// 노드마다 자기 연결에만 보낸다, 여러 노드면 다른 노드에서 일어난 변경은 재연결 때 /api/sync 로 받는다
+@Slf4j
+@Component
+public class SyncEventBroadcaster {
+	static final String CHANGE = "change";
+
+	private final Map<Long, Deque<SseConnection>> connections = new ConcurrentHashMap<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final ThreadPoolExecutor sender;
+	private final TaskScheduler taskScheduler;
+	private final Duration timeout;
+	private final Duration heartbeat;
+	private final Duration writeTimeout;
+	private final int queueCapacity;
+	private final int maxConnections;
+	private final int maxConnectionsPerMember;
+
+	public SyncEventBroadcaster(TaskScheduler taskScheduler,
+	                            ObjectProvider<MeterRegistry> meterRegistry,
+	                            @Value("${hometender.sync.events.timeout}") Duration timeout,
+	                            @Value("${hometender.sync.events.heartbeat}") Duration heartbeat,
+	                            @Value("${hometender.sync.events.write-timeout}") Duration writeTimeout,
+	                            @Value("${hometender.sync.events.queue-capacity}") int queueCapacity,
+	                            @Value("${hometender.sync.events.max-connections}") int maxConnections,
+	                            @Value("${hometender.sync.events.max-connections-per-member}") int maxConnectionsPerMember,
+	                            @Value("${hometender.sync.events.sender-threads}") int senderThreads,
+	                            @Value("${hometender.sync.events.max-sender-threads}") int maxSenderThreads) {
+
+		this.taskScheduler = taskScheduler;
+		this.timeout = timeout;
+		this.heartbeat = heartbeat;
+		this.writeTimeout = writeTimeout;
+		this.queueCapacity = queueCapacity;
+		this.maxConnections = maxConnections;
+		this.maxConnectionsPerMember = maxConnectionsPerMember;
+		// 막힌 연결이 스레드를 잡고 있어도 다른 연결은 새 스레드로 보낸다, maxSenderThreads 가 모두 막히면 새 알림을 받는 연결부터 끊는다
+		this.sender = new ThreadPoolExecutor(senderThreads, maxSenderThreads, 60, SECONDS, new SynchronousQueue<>(),
+				new CustomizableThreadFactory("sse-sender-"));
+
+		Gauge.builder("hometender.sync.events.connections", connectionCount, AtomicInteger::get)
+				.register(meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	public SseEmitter connect(Long memberId) {
+		if (connectionCount.incrementAndGet() > maxConnections) {
+			connectionCount.decrementAndGet();
+			throw REQUEST_TOO_MANY_EXCEPTION;
+		}
+
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		SseConnection connection = new SseConnection(memberId, emitter, queueCapacity, sender, this::remove);
+
+		Deque<SseConnection> memberConnections = connections.compute(memberId, (key, deque) -> {
+			Deque<SseConnection> connectionDeque = deque == null ? new ConcurrentLinkedDeque<>() : deque;
+			connectionDeque.add(connection);
+
+			return connectionDeque;
+		});
+
+		connection.send(SseEmitter.event().comment("connected"));
+
+		emitter.onCompletion(connection::close);
+		emitter.onTimeout(connection::close);
+		emitter.onError(ex -> connection.close());
+
+		// 한 회원이 연결을 무한히 늘리지 못하게 오래된 것부터 닫는다
+		while (memberConnections.size() > maxConnectionsPerMember) {
+			SseConnection oldest = memberConnections.peekFirst();
+
+			if (oldest == null) {
+				break;
+			}
+
+			oldest.getEmitter().complete();
+			oldest.close();
+		}
+
+		return emitter;
+	}
+
+	@TransactionalEventListener
+	public void onSyncEvent(SyncEvent syncEvent) {
+		Deque<SseConnection> memberConnections = connections.get(syncEvent.memberId());
+
+		if (memberConnections == null) {
+			return;
+		}
+
+		SyncChange syncChange = new SyncChange(syncEvent.type(), syncEvent.entityId(), syncEvent.seq(), syncEvent.deleted(), null);
+
+		for (SseConnection connection : memberConnections) {
+			connection.send(SseEmitter.event()
+					.id(String.valueOf(syncEvent.seq()))
+					.name(CHANGE)
+					.data(syncChange, APPLICATION_JSON));
+		}
+	}
+
+	// 프록시, 로드 밸런서가 쉬는 연결을 끊지 않도록 주석 한 줄을 보낸다, 끊긴 연결도 여기서 정리된다
+	@EventListener(ApplicationReadyEvent.class)
+	public void startHeartbeat() {
+		taskScheduler.scheduleAtFixedRate(this::heartbeat, heartbeat);
+		taskScheduler.scheduleAtFixedRate(this::abortStalled, writeTimeout);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		connections.values().forEach(memberConnections -> memberConnections.forEach(connection -> {
+			connection.getEmitter().complete();
+			connection.close();
+		}));
+		sender.shutdown();
+	}
+
+	private void heartbeat() {
+		connections.values().forEach(memberConnections -> memberConnections.forEach(connection ->
+				connection.send(SseEmitter.event().comment("ping"))));
+	}
+
+	private void abortStalled() {
+		long now = System.nanoTime();
+
+		connections.values().forEach(memberConnections -> memberConnections.forEach(connection -> {
+			if (connection.abortIfStalled(now, writeTimeout.toNanos())) {
+				log.info("stalled sse connection closed | memberId = {}", connection.getMemberId());
+			}
+		}));
+	}
+
+	private void remove(SseConnection connection) {
+		connectionCount.decrementAndGet();
+
+		connections.computeIfPresent(connection.getMemberId(), (key, deque) -> {
+			deque.remove(connection);
+
+			return deque.isEmpty() ? null : deque;
+		});
+	}
+}
@@ -0,0 +1,154 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import com.or1is1.hometender.api.domain.ingredient.Ingredient;
+import com.or1is1.hometender.api.domain.ingredient.IngredientRepository;
+import com.or1is1.hometender.api.domain.recipe.Recipe;
+import com.or1is1.hometender.api.domain.recipe.RecipeRepository;
+import com.or1is1.hometender.api.dto.IngredientDto;
+import com.or1is1.hometender.api.dto.RecipeDto;
+import com.or1is1.hometender.api.dto.SyncChange;
+import com.or1is1.hometender.api.dto.SyncResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.or1is1.hometender.api.common.DomainException.MEMBER_CAN_NOT_FIND_EXCEPTION;
+import static com.or1is1.hometender.api.domain.sync.SyncType.INGREDIENT;
+import static com.or1is1.hometender.api.domain.sync.SyncType.RECIPE;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+	private final SyncCursorRepository syncCursorRepository;
+	private final ChangeLogRepository changeLogRepository;
+	private final IngredientRepository ingredientRepository;
+	private final RecipeRepository recipeRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	// 가입할 때 회원의 순번을 만들어 둔다, 기존 회원은 V3 마이그레이션에서 만들어 두었다
+	// 없는 행은 비관적 락으로 잡을 수 없으므로, 첫 변경에서 만들면 동시에 기록할 때 PK 가 겹치거나 교착된다
+	@Transactional
+	public void createCursor(Long memberId) {
+		syncCursorRepository.save(new SyncCursor(memberId));
+	}
+
+	// 호출한 서비스의 트랜잭션에서 함께 커밋된다
+	@Transactional
+	public void upsert(Long memberId, SyncType type, Long entityId) {
+		record(memberId, type, entityId, false);
+	}
+
+	@Transactional
+	public void delete(Long memberId, SyncType type, Long entityId) {
+		record(memberId, type, entityId, true);
+	}
+
+	public SyncResponse get(Long memberId, long cursor, int limit) {
+		long tombstoneFloor = syncCursorRepository.findById(memberId)
+				.map(SyncCursor::getTombstoneFloor)
+				.orElse(0L);
+
+		// 지워진 tombstone 을 건너뛰었을 수 있으므로 처음부터 다시 받는다
+		boolean reset = cursor > 0 && cursor < tombstoneFloor;
+		long from = reset ? 0 : cursor;
+
+		List<ChangeLog> changeLogList = changeLogRepository.findByMemberIdAndSeqGreaterThanOrderBySeq(memberId, from,
+				Limit.of(limit + 1));
+
+		boolean hasMore = changeLogList.size() > limit;
+
+		if (hasMore) {
+			changeLogList = changeLogList.subList(0, limit);
+		}
+
+		long next = changeLogList.isEmpty() ? from : changeLogList.get(changeLogList.size() - 1).getSeq();
+
+		return new SyncResponse(next, reset, hasMore, toSyncChangeList(changeLogList));
+	}
+
+	// 오래된 tombstone 을 지우고 회원별 tombstoneFloor 를 올린다, 그보다 오래된 cursor 는 reset 된다
+	@Transactional
+	public int compactTombstones(Instant before) {
+		int deletedCount = 0;
+
+		for (Object[] tombstoneFloor : changeLogRepository.findTombstoneFloors(before)) {
+			Long memberId = (Long) tombstoneFloor[0];
+			long seq = (Long) tombstoneFloor[1];
+
+			syncCursorRepository.findForUpdateByMemberId(memberId)
+					.ifPresent(syncCursor -> syncCursor.raiseTombstoneFloor(seq));
+
+			deletedCount += changeLogRepository.deleteTombstones(memberId, seq);
+		}
+
+		return deletedCount;
+	}
+
+	private void record(Long memberId, SyncType type, Long entityId, boolean deleted) {
+		// 순번은 가입할 때 만들어 둔다 (createCursor)
+		SyncCursor syncCursor = syncCursorRepository.findForUpdateByMemberId(memberId)
+				.orElseThrow(() -> MEMBER_CAN_NOT_FIND_EXCEPTION);
+		long seq = syncCursor.next();
+
+		ChangeLog changeLog = changeLogRepository.findByMemberIdAndTypeAndEntityId(memberId, type, entityId)
+				.orElseGet(() -> new ChangeLog(memberId, type, entityId));
+		changeLog.change(seq, deleted, Instant.now());
+		changeLogRepository.save(changeLog);
+
+		// 커밋된 뒤에 SyncEventBroadcaster 가 회원의 연결로 알린다
+		eventPublisher.publishEvent(new SyncEvent(memberId, type, entityId, seq, deleted));
+	}
+
+	// 현재 값은 종류별로 한 번에 조회한다
+	private List<SyncChange> toSyncChangeList(List<ChangeLog> changeLogList) {
+		Map<Long, IngredientDto> ingredientMap = ingredientRepository.findAllById(upsertedIds(changeLogList, INGREDIENT))
+				.stream()
+				.collect(Collectors.toMap(Ingredient::getIngredientId, IngredientDto::new));
+
+		Map<Long, RecipeDto> recipeMap = recipeRepository.findByRecipeIdIn(upsertedIds(changeLogList, RECIPE))
+				.stream()
+				.collect(Collectors.toMap(Recipe::getRecipeId, RecipeDto::new));
+
+		Map<SyncType, Function<Long, Object>> dataByType = new EnumMap<>(SyncType.class);
+		dataByType.put(INGREDIENT, ingredientMap::get);
+		dataByType.put(RECIPE, recipeMap::get);
+
+		List<SyncChange> syncChangeList = new ArrayList<>(changeLogList.size());
+
+		for (ChangeLog changeLog : changeLogList) {
+			boolean deleted = changeLog.isDeleted();
+			Object data = null;
+
+			if (!deleted && dataByType.containsKey(changeLog.getType())) {
+				data = dataByType.get(changeLog.getType()).apply(changeLog.getEntityId());
+
+				// 기록 뒤에 지워졌으면 tombstone 으로 내려준다, 삭제 기록이 곧 뒤따른다
+				deleted = data == null;
+			}
+
+			syncChangeList.add(new SyncChange(changeLog.getType(), changeLog.getEntityId(), changeLog.getSeq(),
+					deleted, data));
+		}
+
+		return syncChangeList;
+	}
+
+	private static List<Long> upsertedIds(List<ChangeLog> changeLogList, SyncType type) {
+		return changeLogList.stream()
+				.filter(changeLog -> !changeLog.isDeleted() && changeLog.getType() == type)
+				.map(ChangeLog::getEntityId)
+				.toList();
+	}
+}
@@ -0,0 +1,9 @@
+package com.or1is1.hometender.api.domain.sync;
+
+// 변경 기록 대상, SHELF 는 재료 id, BOOKMARK 는 레시피 id 로 기록한다
+public enum SyncType {
+	INGREDIENT,
+	RECIPE,
+	SHELF,
+	BOOKMARK
+}
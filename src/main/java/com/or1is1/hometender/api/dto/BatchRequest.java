@@ -0,0 +1,18 @@
+package com.or1is1.hometender.api.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+// dependsOn 에는 앞에 나온 요청의 id 만 쓸 수 있다, 없으면 다른 요청과 동시에 실행된다
+public record BatchRequest(
+		String id,
+		String method,
+		String url,
+		JsonNode body,
+		List<String> dependsOn
+) {
+	public List<String> dependsOn() {
+		return dependsOn == null ? List.of() : dependsOn;
+	}
+}
@@ -0,0 +1,10 @@
+package com.or1is1.hometender.api.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record BatchResponse(
+		String id,
+		int status,
+		JsonNode body
+) {
+}
@@ -0,0 +1,10 @@
+package com.or1is1.hometender.api.dto;
+
+// 하위 레시피를 모두 풀어 같은 재료끼리 더한 양, size 는 ml
+public record ExpandedIngredientDto(
+		Long ingredientId,
+		String ingredientName,
+		float volume,
+		float size
+) {
+}
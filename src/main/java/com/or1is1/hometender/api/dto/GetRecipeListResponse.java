@@ -1,18 +1,23 @@
 package com.or1is1.hometender.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.domain.recipe.CraftMethod;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
 
+@JsonFilter(Fields.FILTER_ID)
 public record GetRecipeListResponse(
 		String name,
 		String description,
-		CraftMethod craftMethod
+		CraftMethod craftMethod,
+		String imageHash
 ) {
 	public GetRecipeListResponse(Recipe recipe) {
 		this(
 				recipe.getName(),
 				recipe.getDescription(),
-				recipe.getCraftMethod()
+				recipe.getCraftMethod(),
+				recipe.getImageHash()
 		);
 	}
 }
@@ -1,9 +1,12 @@
 package com.or1is1.hometender.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.domain.ingredient.Ingredient;
 import com.or1is1.hometender.api.domain.shelf.Shelf;
 import jakarta.validation.constraints.NotBlank;
 
+@JsonFilter(Fields.FILTER_ID)
 public record IngredientDto(
 		@NotBlank(message = "{validation.constraints.NotBlank}")
 		String name,
@@ -1,32 +1,58 @@
 package com.or1is1.hometender.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.or1is1.hometender.api.common.Fields;
 import com.or1is1.hometender.api.domain.bookmark.Bookmark;
 import com.or1is1.hometender.api.domain.recipe.CraftMethod;
 import com.or1is1.hometender.api.domain.recipe.Recipe;
 
 import java.util.List;
 
+@JsonFilter(Fields.FILTER_ID)
 public record RecipeDto(
 		String name,
 		String description,
 		CraftMethod craftMethod,
 		List<RecipeIngredientDto> recipeIngredientList,
-		String manual
+		String manual,
+		// 요청 본문에서는 무시한다, 사진은 PUT /api/recipe/{recipeId}/image
+		String imageHash
 ) {
+	public static final String RECIPE_INGREDIENT_LIST = "recipeIngredientList";
+
+	public RecipeDto(String name, String description, CraftMethod craftMethod,
+	                 List<RecipeIngredientDto> recipeIngredientList, String manual) {
+		this(name, description, craftMethod, recipeIngredientList, manual, null);
+	}
+
 	public RecipeDto(Recipe recipe) {
+		this(recipe, Fields.ALL);
+	}
+
+	// 요청되지 않은 재료 목록은 지연 로딩을 건드리지 않는다
+	public RecipeDto(Recipe recipe, Fields fields) {
 		this(
 				recipe.getName(),
 				recipe.getDescription(),
 				recipe.getCraftMethod(),
-				recipe.getRecipeIngredientList()
-						.stream()
-						.map(RecipeIngredientDto::new)
-						.toList(),
-				recipe.getManual()
+				toRecipeIngredientDtoList(recipe, fields),
+				recipe.getManual(),
+				recipe.getImageHash()
 		);
 	}
 
-	public RecipeDto(Bookmark bookmark) {
-		this(bookmark.getRecipe());
+	public RecipeDto(Bookmark bookmark, Fields fields) {
+		this(bookmark.getRecipe(), fields);
+	}
+
+	private static List<RecipeIngredientDto> toRecipeIngredientDtoList(Recipe recipe, Fields fields) {
+		if (!fields.includes(RECIPE_INGREDIENT_LIST)) {
+			return null;
+		}
+
+		return recipe.getRecipeIngredientList()
+				.stream()
+				.map(RecipeIngredientDto::new)
+				.toList();
 	}
 }
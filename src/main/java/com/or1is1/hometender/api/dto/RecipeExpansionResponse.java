@@ -0,0 +1,20 @@
+package com.or1is1.hometender.api.dto;
+
+import com.or1is1.hometender.api.domain.recipe.RecipeExpansion;
+
+import java.util.List;
+
+// size 는 선택 재료를 뺀 전체 양(ml), volume 은 그 알콜 도수
+public record RecipeExpansionResponse(
+		List<ExpandedIngredientDto> ingredientList,
+		float size,
+		float volume
+) {
+	public RecipeExpansionResponse(RecipeExpansion recipeExpansion) {
+		this(
+				recipeExpansion.ingredientList(),
+				(float) recipeExpansion.size(),
+				(float) recipeExpansion.volume()
+		);
+	}
+}
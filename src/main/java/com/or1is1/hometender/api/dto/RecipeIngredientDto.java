@@ -11,20 +11,34 @@ public record RecipeIngredientDto(
 		float volume,
 		float size,
 		SizeType sizeType,
-		boolean isOption
+		boolean isOption,
+		// 다른 레시피를 재료로 쓸 때 ingredientId 대신, 이름은 ingredientName 에 담고 도수는 /expansion 에서 계산한다
+		Long subRecipeId
 ) {
+	public RecipeIngredientDto(Long ingredientId, String ingredientName, float volume, float size, SizeType sizeType,
+	                           boolean isOption) {
+		this(ingredientId, ingredientName, volume, size, sizeType, isOption, null);
+	}
+
 	public RecipeIngredientDto(RecipeIngredient recipeIngredient) {
 		this(
-				recipeIngredient.getIngredient().getIngredientId(),
-				recipeIngredient.getIngredient().getName(),
-				recipeIngredient.getIngredient().getVolume(),
+				recipeIngredient.getSubRecipe() == null ? recipeIngredient.getIngredient().getIngredientId() : null,
+				recipeIngredient.getSubRecipe() == null
+						? recipeIngredient.getIngredient().getName()
+						: recipeIngredient.getSubRecipe().getName(),
+				recipeIngredient.getSubRecipe() == null ? recipeIngredient.getIngredient().getVolume() : 0,
 				recipeIngredient.getSize(),
 				recipeIngredient.getSizeType(),
-				recipeIngredient.isOption()
+				recipeIngredient.isOption(),
+				recipeIngredient.getSubRecipe() == null ? null : recipeIngredient.getSubRecipe().getRecipeId()
 		);
 	}
 
 	public RecipeIngredient toEntity(Recipe recipe) {
-		return new RecipeIngredient(recipe, new Ingredient(ingredientId), size, sizeType, isOption);
+		if (subRecipeId != null) {
+			return new RecipeIngredient(recipe, null, new Recipe(subRecipeId), size, sizeType, isOption);
+		}
+
+		return new RecipeIngredient(recipe, new Ingredient(ingredientId), null, size, sizeType, isOption);
 	}
 }
@@ -0,0 +1,12 @@
+package com.or1is1.hometender.api.dto;
+
+import java.util.List;
+
+// ingredientIdList 와 ingredientList 는 같은 순서다, 사 온 재료는 POST /api/shelf/{ingredientId} 로 선반에 넣는다
+public record ShoppingListResponse(
+		List<Long> ingredientIdList,
+		List<IngredientDto> ingredientList,
+		List<GetRecipeListResponse> recipeList,
+		boolean complete
+) {
+}
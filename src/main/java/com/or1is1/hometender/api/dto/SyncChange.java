@@ -0,0 +1,13 @@
+package com.or1is1.hometender.api.dto;
+
+import com.or1is1.hometender.api.domain.sync.SyncType;
+
+// deleted 이면 tombstone, 아니면 data 에 현재 값(INGREDIENT: IngredientDto, RECIPE: RecipeDto, 나머지는 없음)
+public record SyncChange(
+		SyncType type,
+		Long id,
+		long seq,
+		boolean deleted,
+		Object data
+) {
+}
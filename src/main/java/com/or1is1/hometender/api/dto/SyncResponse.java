@@ -0,0 +1,12 @@
+package com.or1is1.hometender.api.dto;
+
+import java.util.List;
+
+// reset 이면 클라이언트는 로컬 데이터를 비우고 changes 부터 다시 쌓는다
+public record SyncResponse(
+		long cursor,
+		boolean reset,
+		boolean hasMore,
+		List<SyncChange> changes
+) {
+}
@@ -0,0 +1,89 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.ErrorResponses;
+import com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.PatternMatchUtils;
+
+import java.io.IOException;
+
+import static com.or1is1.hometender.api.common.ErrorCode.REQUEST_OVERLOADED;
+import static com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority.*;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+// DB 가 느려져 모든 스레드가 묶이기 전에, 한도를 넘는 요청은 컨트롤러에 닿기 전에 바로 503 으로 거절한다
+// LoginCheckFilter 뒤에서 실행되므로 화이트리스트가 아닌 요청은 로그인한 요청이다
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter implements Filter {
+	// /actuator 는 management.server.port 에서 따로 받으므로 이 필터를 거치지 않는다
+	private static final String[] bypass = {
+			"/api/sync/events", // 연결을 오래 열어 두지만 스레드는 바로 돌려준다
+			"/api/batch"        // 하위 요청이 하나씩 한도를 쓴다 (BatchService), 묶음 요청까지 세면 자기 하위 요청의 자리를 막는다
+	};
+	// 본문을 흘려 읽고 쓰는 동안의 시간은 클라이언트의 회선 속도에 달렸으므로 지연 표본으로 쓰지 않는다
+	private static final String[] streaming = {
+			"/api/recipe/*/image" // 사진 업로드(PUT), 내려받기(GET)
+	};
+	// 로그인하지 않은 요청, 같은 경로의 회원 조회(GET)와 탈퇴(DELETE)는 로그인한 요청이다
+	private static final String[] anonymousPosts = {
+			"/api/members",      // 가입
+			"/api/members/login" // 로그인
+	};
+	private final ErrorResponses errorResponses;
+	private final ConcurrencyLimiter concurrencyLimiter;
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+		String requestURI = httpServletRequest.getRequestURI();
+
+		if (PatternMatchUtils.simpleMatch(bypass, requestURI)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		Priority priority = resolvePriority(requestURI, httpServletRequest.getMethod());
+
+		if (!concurrencyLimiter.tryAcquire(priority)) {
+			// 과부하일 때 몰리므로 debug 로만 남긴다, 거절 수는 hometender.domain.errors 로 센다
+			log.debug("overloaded | requestUri = {} | priority = {}", requestURI, priority);
+
+			HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+			httpServletResponse.setHeader(RETRY_AFTER, "1");
+			errorResponses.write(httpServletRequest, httpServletResponse, SERVICE_UNAVAILABLE.value(), REQUEST_OVERLOADED);
+
+			return;
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			long now = System.nanoTime();
+
+			// 비동기 요청은 처리가 끝나기 전에 돌아오므로 지연으로 쓰지 않는다
+			boolean sampled = !request.isAsyncStarted() && !PatternMatchUtils.simpleMatch(streaming, requestURI);
+			concurrencyLimiter.release(sampled ? now - start : -1, now);
+		}
+	}
+
+	private static Priority resolvePriority(String requestURI, String method) {
+		if ("POST".equals(method) && PatternMatchUtils.simpleMatch(anonymousPosts, requestURI)) {
+			return LOW;
+		}
+
+		// 로그인 없이 받는 API 문서
+		if (!requestURI.startsWith("/api/") && LoginCheckFilter.isWhitelisted(requestURI)) {
+			return LOW;
+		}
+
+		return "GET".equals(method) ? HIGH : NORMAL;
+	}
+}
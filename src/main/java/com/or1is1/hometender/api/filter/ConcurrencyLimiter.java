@@ -0,0 +1,121 @@
+package com.or1is1.hometender.api.filter;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// 지연 시간으로 동시 처리 수 한도를 조절한다 (Netflix concurrency-limits 의 Gradient2 방식)
+// 창마다 평균 지연(short)을 긴 기간의 평균 지연(long)과 비교해, 지연이 tolerance 배를 넘게 늘면 그 비율만큼 한도를 줄이고
+// 아니면 sqrt(limit) 만큼 늘린다, 한도의 절반도 쓰지 않은 창에서는 늘리지 않는다
+// 우선순위가 낮은 요청은 한도의 일부까지만 쓰므로, 한도가 차면 낮은 요청부터 거절된다
+public class ConcurrencyLimiter {
+	private static final long WINDOW = MILLISECONDS.toNanos(100);
+	private static final int MIN_WINDOW_SAMPLES = 10;
+	private static final double LONG_WINDOW = 600; // 창 600 개 정도에 걸친 지수 이동 평균
+	private static final double SMOOTHING = 0.2;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double tolerance;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile double limit;
+
+	// 지금 창의 표본, 창을 닫는 스레드 하나가 모아서 비운다
+	private final LongAdder rttSum = new LongAdder();
+	private final LongAdder samples = new LongAdder();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final AtomicLong windowStart;
+	private double longRtt;
+
+	public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, long now) {
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.tolerance = tolerance;
+		this.windowStart = new AtomicLong(now);
+	}
+
+	public boolean tryAcquire(Priority priority) {
+		int max = Math.max(1, (int) (limit * priority.share));
+
+		while (true) {
+			int current = inFlight.get();
+
+			if (current >= max) {
+				return false;
+			}
+
+			if (inFlight.compareAndSet(current, current + 1)) {
+				maxInFlight.accumulateAndGet(current + 1, Math::max);
+
+				return true;
+			}
+		}
+	}
+
+	// rtt 가 음수면 지연을 표본으로 쓰지 않는다
+	public void release(long rtt, long now) {
+		inFlight.decrementAndGet();
+
+		if (rtt < 0) {
+			return;
+		}
+
+		rttSum.add(rtt);
+		samples.increment();
+
+		long start = windowStart.get();
+
+		if (now - start < WINDOW || samples.sum() < MIN_WINDOW_SAMPLES || !windowStart.compareAndSet(start, now)) {
+			return;
+		}
+
+		update(rttSum.sumThenReset(), samples.sumThenReset(), maxInFlight.getAndSet(inFlight.get()));
+	}
+
+	public double getLimit() {
+		return limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	private synchronized void update(long rttSum, long samples, int maxInFlight) {
+		if (samples == 0) {
+			return;
+		}
+
+		double shortRtt = (double) rttSum / samples;
+		longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOW;
+
+		// 부하가 빠져 지연이 기준의 절반 아래로 내려가면 기준도 빨리 따라 내린다
+		if (longRtt / shortRtt > 2) {
+			longRtt *= 0.95;
+		}
+
+		double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+
+		if (newLimit > limit && maxInFlight < limit / 2) {
+			return;
+		}
+
+		newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+		limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+	}
+
+	// share: 한도 중 쓸 수 있는 비율
+	@RequiredArgsConstructor
+	public enum Priority {
+		HIGH(1.0),   // 로그인한 조회
+		NORMAL(0.8), // 로그인한 쓰기
+		LOW(0.5);    // 가입, 로그인처럼 비로그인 요청
+
+		private final double share;
+	}
+}
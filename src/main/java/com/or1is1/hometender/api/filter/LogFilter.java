@@ -1,22 +1,63 @@
 package com.or1is1.hometender.api.filter;
 
+import com.or1is1.hometender.api.common.RequestMetrics;
+import com.or1is1.hometender.api.common.RequestTiming;
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 
+import static com.or1is1.hometender.api.common.StringConst.REQUEST_ID_HEADER;
 import static com.or1is1.hometender.api.common.StringConst.REQUEST_UUID;
-import static java.util.UUID.randomUUID;
+import static com.or1is1.hometender.api.filter.ServerTimingResponse.SERVER_TIMING_MDC;
 import static org.slf4j.MDC.clear;
 import static org.slf4j.MDC.put;
 
+@Slf4j
+@RequiredArgsConstructor
 public class LogFilter implements Filter {
+	private final RequestIdGenerator requestIdGenerator = new RequestIdGenerator();
+	private final RequestMetrics requestMetrics;
+
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws ServletException, IOException {
+		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+		HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+
 		try {
-			put(REQUEST_UUID, randomUUID().toString());
+			String requestId = httpServletRequest.getHeader(REQUEST_ID_HEADER);
+
+			if (!RequestIdGenerator.isValid(requestId)) {
+				requestId = requestIdGenerator.next();
+			}
+
+			put(REQUEST_UUID, requestId);
+			httpServletResponse.setHeader(REQUEST_ID_HEADER, requestId);
+
+			ServerTimingResponse serverTimingResponse = new ServerTimingResponse(httpServletResponse, RequestTiming.start());
 
-			chain.doFilter(request, response);
+			chain.doFilter(request, serverTimingResponse);
+
+			// 본문이 없는 응답
+			serverTimingResponse.writeServerTiming();
+
+			if (log.isDebugEnabled()) {
+				put(SERVER_TIMING_MDC, RequestTiming.current().toServerTiming());
+				log.debug("{} {} | status = {}", httpServletRequest.getMethod(), httpServletRequest.getRequestURI(),
+						httpServletResponse.getStatus());
+			}
 		} finally {
+			// 예외로 끝난 요청도 SQL 수와 엔티티 로드 수를 남긴다
+			RequestTiming requestTiming = RequestTiming.current();
+
+			if (requestTiming != null) {
+				requestMetrics.recordRequest(requestTiming);
+			}
+
+			RequestTiming.clear();
 			clear();
 		}
 	}
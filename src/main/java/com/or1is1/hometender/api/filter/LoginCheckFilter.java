@@ -1,7 +1,8 @@
 package com.or1is1.hometender.api.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.or1is1.hometender.api.common.ErrorResponse;
+import com.or1is1.hometender.api.common.ErrorResponses;
+import com.or1is1.hometender.api.common.LoginToken;
+import com.or1is1.hometender.api.common.LoginTokenProvider;
 import com.or1is1.hometender.api.common.StringConst;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,16 +10,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
 import org.springframework.util.PatternMatchUtils;
 
 import java.io.IOException;
 
 import static com.or1is1.hometender.api.common.ErrorCode.MEMBER_NEED_TO_LOGIN;
 import static jakarta.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Locale.KOREAN;
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,45 +28,42 @@ public class LoginCheckFilter implements Filter {
 			"/v3/api-docs/hometender-api",
 			"/v3/api-docs/swagger-config"
 	};
-	private final MessageSource messageSource;
-	private ObjectMapper objectMapper;
-
-	@Override
-	public void init(FilterConfig filterConfig) {
-		objectMapper = new ObjectMapper();
-	}
+	private final ErrorResponses errorResponses;
+	private final LoginTokenProvider loginTokenProvider;
 
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
 		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+
+		if (loginTokenProvider.isEnabled()) {
+			LoginToken loginToken = loginTokenProvider.parse(httpServletRequest.getHeader(AUTHORIZATION));
+			httpServletRequest = new StatelessRequest(httpServletRequest, (HttpServletResponse) response, loginTokenProvider, loginToken);
+		}
+
 		String requestURI = httpServletRequest.getRequestURI();
 		HttpSession session = httpServletRequest.getSession(false);
 
 		if (needToLogin(requestURI, session)) {
-			String message = messageSource.getMessage("exception.member.needToLogin", null, KOREAN);
-
-			log.info("{} | requestUri = {} | sessionIsNull = {}", message, requestURI, session == null);
-
-			ErrorResponse objectErrorResponse = new ErrorResponse(MEMBER_NEED_TO_LOGIN, message);
-			String content = objectMapper.writeValueAsString(objectErrorResponse);
+			// 스캐너 등 비로그인 요청이 몰릴 수 있으므로 debug 로만 남긴다
+			log.debug("needToLogin | requestUri = {} | sessionIsNull = {}", requestURI, session == null);
 
-			HttpServletResponse httpServletResponse = (HttpServletResponse) response;
-			httpServletResponse.setContentType(APPLICATION_JSON_VALUE);
-			httpServletResponse.setCharacterEncoding(UTF_8.name());
-			httpServletResponse.setStatus(SC_BAD_REQUEST);
-			httpServletResponse.getWriter().write(content);
+			errorResponses.write(httpServletRequest, (HttpServletResponse) response, SC_BAD_REQUEST, MEMBER_NEED_TO_LOGIN);
 
 			return;
 		}
 
-		chain.doFilter(request, response);
+		chain.doFilter(httpServletRequest, response);
 	}
 
 	private boolean needToLogin(String requestURI, HttpSession session) {
-		if (PatternMatchUtils.simpleMatch(whitelist, requestURI)) {
+		if (isWhitelisted(requestURI)) {
 			return false;
 		}
 
 		return session == null || session.getAttribute(StringConst.LOGIN_MEMBER) == null;
 	}
+
+	static boolean isWhitelisted(String requestURI) {
+		return PatternMatchUtils.simpleMatch(whitelist, requestURI);
+	}
 }
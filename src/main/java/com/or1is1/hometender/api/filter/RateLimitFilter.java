@@ -0,0 +1,133 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.ErrorResponses;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.PatternMatchUtils;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.or1is1.hometender.api.common.ErrorCode.REQUEST_TOO_MANY;
+import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+// 규칙별 한도는 hometender.rate-limit.*, 다시 가득 찬 버킷은 sweep-interval 마다 요청 스레드 밖에서 지운다
+@Slf4j
+public class RateLimitFilter implements Filter {
+	private final Rule[] rules;
+	private final ErrorResponses errorResponses;
+	private final int maxKeys;
+
+	public RateLimitFilter(ErrorResponses errorResponses, int maxKeys,
+	                       Limit login, Limit signUp, Limit read, Limit write) {
+
+		long now = System.nanoTime();
+
+		this.rules = new Rule[]{
+				new Rule("/api/members/login", "POST", login, now), // BCrypt 비교 비용이 크다
+				new Rule("/api/members", "POST", signUp, now),
+				new Rule("*", "GET", read, now),
+				new Rule("*", null, write, now)
+		};
+		this.errorResponses = errorResponses;
+		this.maxKeys = maxKeys;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+		Rule rule = findRule(httpServletRequest.getRequestURI(), httpServletRequest.getMethod());
+		Object key = resolveKey(httpServletRequest);
+		long now = System.nanoTime();
+
+		if (rule.tryAcquire(key, now, maxKeys)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		log.info("tooMany | requestUri = {} | key = {}", httpServletRequest.getRequestURI(), key);
+
+		HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+		httpServletResponse.setHeader(RETRY_AFTER, "1");
+		errorResponses.write(httpServletRequest, httpServletResponse, TOO_MANY_REQUESTS.value(), REQUEST_TOO_MANY);
+	}
+
+	// 키가 가득 차도 요청 스레드에서는 지우지 않고 overflowLimiter 를 함께 쓴다
+	@Scheduled(fixedDelayString = "${hometender.rate-limit.sweep-interval}")
+	public void sweep() {
+		long now = System.nanoTime();
+
+		for (Rule rule : rules) {
+			rule.sweep(now);
+		}
+	}
+
+	private Rule findRule(String requestURI, String method) {
+		for (Rule rule : rules) {
+			if (rule.matches(requestURI, method)) {
+				return rule;
+			}
+		}
+
+		return rules[rules.length - 1];
+	}
+
+	// 로그인 회원은 회원 번호로, 비로그인 요청은 IP 로 구분한다
+	private Object resolveKey(HttpServletRequest request) {
+		HttpSession session = request.getSession(false);
+		Object memberId = session == null ? null : session.getAttribute(LOGIN_MEMBER);
+
+		return memberId != null ? memberId : request.getRemoteAddr();
+	}
+
+	public record Limit(
+			double permitsPerSecond,
+			int burst
+	) {
+	}
+
+	private static class Rule {
+		private final String pattern;
+		private final String method;
+		private final Limit limit;
+		private final ConcurrentHashMap<Object, RateLimiter> limiters = new ConcurrentHashMap<>();
+		private final RateLimiter overflowLimiter; // 키가 가득 찼을 때 새 키들이 함께 쓰는 버킷
+
+		Rule(String pattern, String method, Limit limit, long now) {
+			this.pattern = pattern;
+			this.method = method;
+			this.limit = limit;
+			this.overflowLimiter = new RateLimiter(limit.permitsPerSecond(), limit.burst(), now);
+		}
+
+		boolean matches(String requestURI, String method) {
+			return (this.method == null || this.method.equals(method))
+					&& PatternMatchUtils.simpleMatch(pattern, requestURI);
+		}
+
+		boolean tryAcquire(Object key, long now, int maxKeys) {
+			RateLimiter limiter = limiters.get(key);
+
+			if (limiter == null) {
+				if (limiters.size() >= maxKeys) {
+					return overflowLimiter.tryAcquire(now);
+				}
+
+				limiter = limiters.computeIfAbsent(key, k -> new RateLimiter(limit.permitsPerSecond(), limit.burst(), now));
+			}
+
+			return limiter.tryAcquire(now);
+		}
+
+		void sweep(long now) {
+			limiters.values().removeIf(limiter -> limiter.isIdle(now));
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.or1is1.hometender.api.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+// GCRA 방식의 토큰 버킷, 다음 토큰이 채워질 시각 하나만 CAS 로 갱신한다
+public class RateLimiter {
+	private final long emissionInterval; // 토큰 하나가 채워지는 시간(ns)
+	private final long burstTolerance;
+	private final AtomicLong theoreticalArrivalTime;
+
+	public RateLimiter(double permitsPerSecond, int burst, long now) {
+		this.emissionInterval = (long) (SECONDS.toNanos(1) / permitsPerSecond);
+		this.burstTolerance = emissionInterval * (burst - 1);
+		this.theoreticalArrivalTime = new AtomicLong(now);
+	}
+
+	public boolean tryAcquire(long now) {
+		while (true) {
+			long tat = theoreticalArrivalTime.get();
+			long base = Math.max(tat, now);
+
+			if (base - now > burstTolerance) {
+				return false;
+			}
+
+			if (theoreticalArrivalTime.compareAndSet(tat, base + emissionInterval)) {
+				return true;
+			}
+		}
+	}
+
+	// 가득 찬 버킷은 새 버킷과 같으므로 제거해도 된다
+	public boolean isIdle(long now) {
+		return theoreticalArrivalTime.get() <= now;
+	}
+}
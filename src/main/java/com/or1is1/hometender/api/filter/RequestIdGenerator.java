@@ -0,0 +1,58 @@
+package com.or1is1.hometender.api.filter;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 상위 42비트는 밀리초, 하위 22비트는 같은 밀리초 안의 순번, 뒤에 노드 구분값을 붙인다
+// SecureRandom 을 요청마다 거치지 않고 CAS 한 번으로 시간 순서대로 정렬되는 ID 를 만든다
+public class RequestIdGenerator {
+	private static final int SEQUENCE_BITS = 22;
+	private static final int MAX_LENGTH = 64;
+
+	private final AtomicLong lastId = new AtomicLong();
+	private final String nodeSuffix;
+
+	public RequestIdGenerator() {
+		int node = new SecureRandom().nextInt(0x10000);
+		this.nodeSuffix = String.format("%04x", node);
+	}
+
+	public String next() {
+		long id = nextLong();
+		String hex = Long.toHexString(id);
+
+		return "0".repeat(16 - hex.length()) + hex + nodeSuffix;
+	}
+
+	long nextLong() {
+		while (true) {
+			long last = lastId.get();
+			long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+			long next = candidate > last ? candidate : last + 1;
+
+			if (lastId.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+	// 외부에서 받은 ID 는 로그와 헤더에 그대로 쓰이므로 길이와 문자를 제한한다
+	public static boolean isValid(String requestId) {
+		if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < requestId.length(); i++) {
+			char c = requestId.charAt(i);
+
+			boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+					|| c == '-' || c == '_' || c == '.' || c == ':';
+
+			if (!allowed) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,58 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.RequestTiming;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import static org.slf4j.MDC.put;
+
+// 본문을 쓰기 시작하면 응답이 커밋되므로 그 직전에 Server-Timing 헤더를 붙인다
+public class ServerTimingResponse extends HttpServletResponseWrapper {
+	public static final String SERVER_TIMING = "Server-Timing";
+	public static final String SERVER_TIMING_MDC = "serverTiming";
+
+	private final RequestTiming requestTiming;
+	private boolean written;
+
+	public ServerTimingResponse(HttpServletResponse response, RequestTiming requestTiming) {
+		super(response);
+		this.requestTiming = requestTiming;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		writeServerTiming();
+
+		return super.getOutputStream();
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		writeServerTiming();
+
+		return super.getWriter();
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		writeServerTiming();
+
+		super.flushBuffer();
+	}
+
+	public void writeServerTiming() {
+		if (written || isCommitted()) {
+			return;
+		}
+
+		written = true;
+
+		String serverTiming = requestTiming.toServerTiming();
+		put(SERVER_TIMING_MDC, serverTiming);
+		setHeader(SERVER_TIMING, serverTiming);
+	}
+}
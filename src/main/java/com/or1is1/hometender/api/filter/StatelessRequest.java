@@ -0,0 +1,51 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.LoginToken;
+import com.or1is1.hometender.api.common.LoginTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+// 톰캣 세션을 만들지 않도록 getSession 을 StatelessSession 으로 대신한다
+public class StatelessRequest extends HttpServletRequestWrapper {
+	private final HttpServletResponse response;
+	private final LoginTokenProvider loginTokenProvider;
+	private StatelessSession session;
+
+	public StatelessRequest(HttpServletRequest request, HttpServletResponse response,
+	                        LoginTokenProvider loginTokenProvider, LoginToken loginToken) {
+
+		super(request);
+		this.response = response;
+		this.loginTokenProvider = loginTokenProvider;
+
+		if (loginToken != null) {
+			session = new StatelessSession(request.getServletContext(), response, loginTokenProvider, loginToken);
+		}
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (session == null && create) {
+			session = new StatelessSession(getServletContext(), response, loginTokenProvider, null);
+		}
+
+		return session;
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public String changeSessionId() {
+		return getSession().getId();
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return session != null && !session.isNew();
+	}
+}
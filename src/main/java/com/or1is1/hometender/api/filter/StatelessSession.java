@@ -0,0 +1,110 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.LoginToken;
+import com.or1is1.hometender.api.common.LoginTokenProvider;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.or1is1.hometender.api.common.StringConst.BEARER;
+import static com.or1is1.hometender.api.common.StringConst.LOGIN_MEMBER;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+// 요청 하나 동안만 살아있는 세션, 로그인 회원 정보는 토큰에서 복원하고 토큰으로 내려준다
+public class StatelessSession implements HttpSession {
+	private final ServletContext servletContext;
+	private final HttpServletResponse response;
+	private final LoginTokenProvider loginTokenProvider;
+	private final LoginToken loginToken;
+	private final long creationTime = System.currentTimeMillis();
+	private final Map<String, Object> attributes = new HashMap<>(4);
+
+	public StatelessSession(ServletContext servletContext, HttpServletResponse response,
+	                        LoginTokenProvider loginTokenProvider, LoginToken loginToken) {
+
+		this.servletContext = servletContext;
+		this.response = response;
+		this.loginTokenProvider = loginTokenProvider;
+		this.loginToken = loginToken;
+
+		if (loginToken != null) {
+			attributes.put(LOGIN_MEMBER, loginToken.memberId());
+		}
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(attributes.keySet());
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		attributes.put(name, value);
+
+		if (LOGIN_MEMBER.equals(name) && value instanceof Long memberId) {
+			response.setHeader(AUTHORIZATION, BEARER + loginTokenProvider.issue(memberId));
+		}
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public void invalidate() {
+		if (loginToken != null) {
+			loginTokenProvider.revoke(loginToken);
+		}
+
+		attributes.clear();
+	}
+
+	@Override
+	public boolean isNew() {
+		return loginToken == null;
+	}
+
+	@Override
+	public String getId() {
+		return loginToken == null ? "" : loginToken.tokenId();
+	}
+
+	@Override
+	public long getCreationTime() {
+		return creationTime;
+	}
+
+	@Override
+	public long getLastAccessedTime() {
+		return creationTime;
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return servletContext;
+	}
+
+	@Override
+	public void setMaxInactiveInterval(int interval) {
+	}
+
+	@Override
+	public int getMaxInactiveInterval() {
+		if (loginToken == null) {
+			return 0;
+		}
+
+		return (int) ((loginToken.expiresAt() - System.currentTimeMillis()) / 1000);
+	}
+}
@@ -0,0 +1,6 @@
+-- 다른 레시피(하우스 시럽, 인퓨전)를 재료로 쓴다, ingredient_id 와 sub_recipe_id 중 하나만 채운다
+alter table recipe_ingredient add column sub_recipe_id bigint;
+
+-- 삭제 전 사용 여부 확인(exists), 장보기 추천의 left join, 외래 키도 이 인덱스를 쓴다
+create index idx_recipe_ingredient_sub_recipe_id on recipe_ingredient (sub_recipe_id);
+alter table recipe_ingredient add constraint fk_recipe_ingredient_sub_recipe foreign key (sub_recipe_id) references recipe (recipe_id);
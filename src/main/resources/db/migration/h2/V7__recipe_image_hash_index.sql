@@ -0,0 +1,2 @@
+-- 바꾸거나 지운 사진 파일을 다른 레시피가 아직 쓰는지 확인한다 (RecipeImageCleaner)
+create index idx_recipe_image_hash on recipe (image_hash);
@@ -0,0 +1,68 @@
+-- 엔티티에서 Hibernate 가 만들던 스키마, 기존 DB 는 baseline(V1) 으로 건너뛴다
+
+create table member
+(
+    member_id bigint       not null,
+    login_id  varchar(255) not null,
+    password  varchar(255) not null,
+    nickname  varchar(255) not null,
+    primary key (member_id),
+    constraint uk_member_login_id unique (login_id),
+    constraint uk_member_nickname unique (nickname)
+) engine = InnoDB;
+
+create table ingredient
+(
+    ingredient_id bigint    not null,
+    member_id     bigint,
+    name          varchar(255),
+    description   varchar(255),
+    volume        float(24) not null,
+    primary key (ingredient_id),
+    constraint fk_ingredient_member foreign key (member_id) references member (member_id)
+) engine = InnoDB;
+
+create table recipe
+(
+    recipe_id    bigint not null,
+    member_id    bigint,
+    name         varchar(255),
+    description  varchar(255),
+    craft_method varchar(255),
+    manual       varchar(255),
+    primary key (recipe_id),
+    constraint fk_recipe_member foreign key (member_id) references member (member_id)
+) engine = InnoDB;
+
+create table recipe_ingredient
+(
+    recipe_ingredient_id bigint    not null,
+    recipe_id            bigint,
+    ingredient_id        bigint,
+    size                 float(24) not null,
+    size_type            varchar(255),
+    `option`             bit       not null,
+    primary key (recipe_ingredient_id),
+    constraint fk_recipe_ingredient_recipe foreign key (recipe_id) references recipe (recipe_id),
+    constraint fk_recipe_ingredient_ingredient foreign key (ingredient_id) references ingredient (ingredient_id)
+) engine = InnoDB;
+
+create table shelf
+(
+    shelf_id      bigint not null,
+    writer_id     bigint,
+    ingredient_id bigint,
+    primary key (shelf_id),
+    constraint fk_shelf_member foreign key (writer_id) references member (member_id),
+    constraint fk_shelf_ingredient foreign key (ingredient_id) references ingredient (ingredient_id)
+) engine = InnoDB;
+
+create table bookmark
+(
+    bookmark_id bigint not null,
+    writer_id   bigint,
+    recipe_id   bigint,
+    primary key (bookmark_id),
+    constraint fk_bookmark_member foreign key (writer_id) references member (member_id),
+    constraint fk_bookmark_recipe foreign key (recipe_id) references recipe (recipe_id)
+) engine = InnoDB;
@@ -0,0 +1,30 @@
+-- findByWriter, findBy...IdAndWriter 접근 경로에 맞춘 인덱스
+-- InnoDB 보조 인덱스에는 PK 가 붙으므로 (member_id) 인덱스가 곧 (member_id, pk) 이다
+
+-- 재료 목록: 회원별 재료, 목록 응답(이름, 설명, 도수)까지 인덱스만으로 읽는다
+create index idx_ingredient_member_id on ingredient (member_id, name, description, volume);
+
+-- 레시피 목록, 회원별 레시피
+create index idx_recipe_member_id on recipe (member_id);
+
+-- 레시피 상세와 수정 시 재료 목록 삭제
+create index idx_recipe_ingredient_recipe_id on recipe_ingredient (recipe_id, ingredient_id);
+
+-- 선반, 즐겨찾기는 회원당 한 번만, 목록(writer_id)과 삭제(writer_id + 대상 id)를 함께 처리한다
+delete s1
+from shelf s1
+         join shelf s2
+              on s2.writer_id = s1.writer_id
+                  and s2.ingredient_id = s1.ingredient_id
+                  and s2.shelf_id < s1.shelf_id;
+
+create unique index uk_shelf_writer_id_ingredient_id on shelf (writer_id, ingredient_id);
+
+delete b1
+from bookmark b1
+         join bookmark b2
+              on b2.writer_id = b1.writer_id
+                  and b2.recipe_id = b1.recipe_id
+                  and b2.bookmark_id < b1.bookmark_id;
+
+create unique index uk_bookmark_writer_id_recipe_id on bookmark (writer_id, recipe_id);
@@ -0,0 +1,30 @@
+-- 동기화(/api/sync) 변경 기록, 회원 탈퇴를 막지 않도록 member 에 외래 키를 걸지 않는다
+
+create table sync_cursor
+(
+    member_id       bigint not null,
+    last_seq        bigint not null,
+    tombstone_floor bigint not null,
+    primary key (member_id)
+) engine = InnoDB;
+
+create table change_log
+(
+    change_log_id bigint       not null,
+    member_id     bigint       not null,
+    entity_type   varchar(255) not null,
+    entity_id     bigint       not null,
+    seq           bigint       not null,
+    deleted       bit          not null,
+    changed_at    datetime(6)  not null,
+    primary key (change_log_id),
+    constraint uk_change_log_member_id_entity unique (member_id, entity_type, entity_id)
+) engine = InnoDB;
+
+-- 동기화: 회원별 cursor 이후 순번 순으로
+create index idx_change_log_member_id_seq on change_log (member_id, seq);
+
+-- 기존 회원의 순번
+insert into sync_cursor (member_id, last_seq, tombstone_floor)
+select member_id, 0, 0
+from member;
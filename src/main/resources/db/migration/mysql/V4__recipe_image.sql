@@ -0,0 +1,3 @@
+-- 레시피 사진, 파일은 hometender.image.root 아래에 내용의 sha-256 으로 저장한다
+alter table recipe add column image_hash varchar(64);
+alter table recipe add column image_type varchar(255);
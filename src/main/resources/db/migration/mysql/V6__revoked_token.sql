@@ -0,0 +1,12 @@
+-- 로그아웃한 토큰, 다른 노드도 주기적으로 읽어 같은 토큰을 거부한다
+create table revoked_token
+(
+    token_id   varchar(16) not null,
+    expires_at bigint      not null,
+    revoked_at bigint      not null,
+    primary key (token_id)
+) engine = InnoDB;
+
+-- 주기적으로 읽기(revoked_at 이후), 만료된 행 지우기(expires_at)
+create index idx_revoked_token_revoked_at on revoked_token (revoked_at);
+create index idx_revoked_token_expires_at on revoked_token (expires_at);
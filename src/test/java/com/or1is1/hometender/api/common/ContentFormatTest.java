@@ -0,0 +1,30 @@
+package com.or1is1.hometender.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.or1is1.hometender.api.common.ContentFormat.CBOR;
+import static com.or1is1.hometender.api.common.ContentFormat.JSON;
+import static com.or1is1.hometender.api.common.ContentFormat.SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentFormatTest {
+
+	@Test
+	@DisplayName("q 값이 높은 형식")
+	void negotiate() {
+		// when then
+		assertThat(ContentFormat.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(CBOR);
+		assertThat(ContentFormat.negotiate("application/x-jackson-smile")).isEqualTo(SMILE);
+		assertThat(ContentFormat.negotiate(null)).isEqualTo(JSON);
+	}
+
+	@Test
+	@DisplayName("q=0 인 형식은 와일드카드에 맞아도 고르지 않음")
+	void negotiateNotAcceptable() {
+		// when then
+		assertThat(ContentFormat.negotiate("application/json;q=0, */*")).isEqualTo(CBOR);
+		assertThat(ContentFormat.negotiate("*/*;q=0, application/cbor")).isEqualTo(CBOR);
+		assertThat(ContentFormat.negotiate("application/cbor;q=0, application/*;q=0.5")).isEqualTo(JSON);
+	}
+}
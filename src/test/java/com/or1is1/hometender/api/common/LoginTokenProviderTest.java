@@ -0,0 +1,116 @@
+package com.or1is1.hometender.api.common;
+
+import com.or1is1.hometender.api.domain.member.RevokedToken;
+import com.or1is1.hometender.api.domain.member.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.or1is1.hometender.api.common.StringConst.BEARER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginTokenProviderTest {
+	private static final String SECRET = "secret-secret-secret-secret-secret";
+	private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+	private final LoginTokenProvider loginTokenProvider = new LoginTokenProvider(true, SECRET, Duration.ofHours(1), revokedTokenRepository);
+
+	@Test
+	@DisplayName("발급한 토큰에서 회원 번호 복원")
+	void parse() {
+		// given
+		String token = loginTokenProvider.issue(1L);
+
+		// when
+		LoginToken loginToken = loginTokenProvider.parse(BEARER + token);
+
+		// then
+		assertThat(loginToken.memberId()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("서명이 다른 토큰은 거부")
+	void parseWithOtherSecret() {
+		// given
+		LoginTokenProvider otherProvider = new LoginTokenProvider(true, "other-other-other-other-other-other", Duration.ofHours(1), revokedTokenRepository);
+		String token = otherProvider.issue(1L);
+
+		// when then
+		assertThat(loginTokenProvider.parse(BEARER + token)).isNull();
+		assertThat(loginTokenProvider.parse(BEARER + "broken")).isNull();
+		assertThat(loginTokenProvider.parse(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("토큰을 쓰는데 비밀 값이 없거나 짧으면 서버가 뜨지 않음")
+	void shortSecret() {
+		// when then
+		assertThatThrownBy(() -> new LoginTokenProvider(true, "", Duration.ofHours(1), revokedTokenRepository))
+				.isExactlyInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> new LoginTokenProvider(true, "secret", Duration.ofHours(1), revokedTokenRepository))
+				.isExactlyInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 거부")
+	void parseExpired() {
+		// given
+		LoginTokenProvider expiredProvider = new LoginTokenProvider(true, SECRET, Duration.ofSeconds(-1), revokedTokenRepository);
+		String token = expiredProvider.issue(1L);
+
+		// when then
+		assertThat(loginTokenProvider.parse(BEARER + token)).isNull();
+	}
+
+	@Test
+	@DisplayName("로그아웃으로 폐기된 토큰은 거부")
+	void revoke() {
+		// given
+		String token = loginTokenProvider.issue(1L);
+		LoginToken loginToken = loginTokenProvider.parse(BEARER + token);
+
+		// when
+		loginTokenProvider.revoke(loginToken);
+
+		// then
+		assertThat(loginTokenProvider.parse(BEARER + token)).isNull();
+	}
+
+	@Test
+	@DisplayName("폐기하면 다른 노드가 읽도록 DB 에 남김")
+	void revokeSaves() {
+		// given
+		String token = loginTokenProvider.issue(1L);
+		LoginToken loginToken = loginTokenProvider.parse(BEARER + token);
+
+		// when
+		loginTokenProvider.revoke(loginToken);
+
+		// then
+		verify(revokedTokenRepository).save(any(RevokedToken.class));
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 폐기된 토큰은 DB 에서 읽은 뒤 거부")
+	void pollRevokedTokens() {
+		// given
+		String token = loginTokenProvider.issue(1L);
+		LoginToken loginToken = loginTokenProvider.parse(BEARER + token);
+
+		when(revokedTokenRepository.findByRevokedAtGreaterThanAndExpiresAtGreaterThan(anyLong(), anyLong()))
+				.thenReturn(List.of(new RevokedToken(loginToken.tokenId(), loginToken.expiresAt(), System.currentTimeMillis())));
+
+		// when
+		loginTokenProvider.pollRevokedTokens();
+
+		// then
+		assertThat(loginTokenProvider.parse(BEARER + token)).isNull();
+	}
+}
@@ -0,0 +1,90 @@
+package com.or1is1.hometender.api.common;
+
+import com.or1is1.hometender.api.common.ReplicaRoutingDataSource.Balancing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+	private final AtomicReference<Long> currentMember = new AtomicReference<>();
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void beforeEach() {
+		DataSource primary = database("primary");
+		DataSource replica = database("replica");
+
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+				Balancing.ROUND_ROBIN, new ReadYourWrites(Duration.ofMinutes(1)), currentMember::get);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 replica, 나머지는 primary")
+	void route() {
+		// given
+		currentMember.set(1L);
+
+		// when
+		String read = readOnly.execute(status -> whereAmI());
+		String write = readWrite.execute(status -> whereAmI());
+
+		// then
+		assertThat(read).isEqualTo("replica");
+		assertThat(write).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("쓰기 직후에는 쓴 회원의 읽기만 primary")
+	void readYourWrites() {
+		// given
+		currentMember.set(1L);
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("update route set name = name"));
+
+		// when
+		String writer = readOnly.execute(status -> whereAmI());
+		currentMember.set(2L);
+		String other = readOnly.execute(status -> whereAmI());
+
+		// then
+		assertThat(writer).isEqualTo("primary");
+		assertThat(other).isEqualTo("replica");
+	}
+
+	private String whereAmI() {
+		return jdbcTemplate.queryForObject("select name from route", String.class);
+	}
+
+	private static DataSource database(String name) {
+		// 테스트가 병렬로 돌므로 테스트마다 다른 데이터베이스
+		String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+		DataSource dataSource = new DriverManagerDataSource(url);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		jdbcTemplate.execute("create table route (name varchar(16))");
+		jdbcTemplate.update("insert into route values (?)", name);
+
+		return dataSource;
+	}
+}
@@ -0,0 +1,113 @@
+package com.or1is1.hometender.api.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.dto.PostMemberRequest;
+import com.or1is1.hometender.api.dto.RecipeDto;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.or1is1.hometender.api.domain.recipe.CraftMethod.BUILD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.IMAGE_PNG;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// primary 와 replica 를 서로 다른 H2 로 띄우고, replica 에는 primary 의 스냅샷을 복사해 둔다
+// 쓰기가 replica 로 가면 primary 에는 남지 않는다
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+		"hometender.datasource.replica-urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+		"hometender.datasource.read-your-writes=0s"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTest {
+	static final String PRIMARY_URL = "jdbc:h2:mem:routingPrimary;DB_CLOSE_DELAY=-1";
+	static final String REPLICA_URL = "jdbc:h2:mem:routingReplica;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	ObjectMapper objectMapper;
+	@Autowired
+	HikariDataSource primaryDataSource;
+
+	@Test
+	@DisplayName("한 요청 안에서 읽기 전용 트랜잭션 뒤의 쓰기는 primary 로")
+	void writeAfterReadInRequest() throws Exception {
+		// given
+		MockHttpSession mockHttpSession = new MockHttpSession();
+		PostMemberRequest postMemberRequest = new PostMemberRequest("routingWriter", "password", "routing");
+
+		mockMvc.perform(post("/api/members")
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		RecipeDto negroni = new RecipeDto("네그로니", "쓴맛", BUILD, List.of(), "젓는다.");
+		Long recipeId = Long.valueOf(mockMvc.perform(post("/api/recipe")
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(negroni)))
+				.andReturn()
+				.getResponse()
+				.getContentAsString());
+
+		replicate();
+
+		BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", png);
+
+		// when
+		// 작성자 확인(읽기 전용)은 replica, 사진 저장(쓰기)은 primary 로 가야 한다
+		mockMvc.perform(put("/api/recipe/" + recipeId + "/image")
+						.contentType(IMAGE_PNG)
+						.session(mockHttpSession)
+						.content(png.toByteArray()))
+				.andExpect(status().isOk());
+
+		// then
+		assertThat(imageHash(new JdbcTemplate(primaryDataSource), recipeId)).isNotNull();
+		assertThat(imageHash(replica(), recipeId)).isNull();
+	}
+
+	// primary 의 지금 상태를 replica 로 옮긴다
+	private void replicate() throws Exception {
+		Path script = Files.createTempFile("replica", ".sql");
+
+		try {
+			new JdbcTemplate(primaryDataSource).execute("script to '" + script + "'");
+
+			JdbcTemplate replica = replica();
+			replica.execute("drop all objects");
+			replica.execute("runscript from '" + script + "'");
+		} finally {
+			Files.deleteIfExists(script);
+		}
+	}
+
+	private static JdbcTemplate replica() {
+		return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+	}
+
+	private static String imageHash(JdbcTemplate jdbcTemplate, Long recipeId) {
+		return jdbcTemplate.queryForObject("select image_hash from recipe where recipe_id = ?", String.class, recipeId);
+	}
+}
@@ -0,0 +1,65 @@
+package com.or1is1.hometender.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.or1is1.hometender.api.common.TimeOrderedIds.EPOCH_SECONDS;
+import static com.or1is1.hometender.api.common.TimeOrderedIds.SEQUENCE_BITS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdsTest {
+
+	@Test
+	@DisplayName("시계가 뒤로 가거나 순번이 넘쳐도 id 는 증가")
+	void next() {
+		// given
+		long[] clock = {EPOCH_SECONDS + 100};
+		TimeOrderedIds timeOrderedIds = new TimeOrderedIds(3, () -> clock[0]);
+		long previous = -1;
+
+		// when then
+		for (int i = 0; i < 200_000; i++) {
+			long id = timeOrderedIds.next();
+
+			assertThat(id).isGreaterThan(previous);
+			previous = id;
+
+			if (i == 1_000) {
+				clock[0] -= 50;
+			}
+		}
+
+		assertThat(previous).isLessThan(1L << 53);
+		assertThat((previous >>> SEQUENCE_BITS) & TimeOrderedIds.MAX_NODE).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 만들어도 중복 없음")
+	void nextConcurrently() throws InterruptedException {
+		// given
+		TimeOrderedIds timeOrderedIds = new TimeOrderedIds(0);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+		// when
+		for (int i = 0; i < 4; i++) {
+			executorService.submit(() -> {
+				for (int j = 0; j < 10_000; j++) {
+					ids.add(timeOrderedIds.next());
+				}
+			});
+		}
+
+		executorService.shutdown();
+		executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+		// then
+		assertThat(ids).hasSize(40_000);
+	}
+}
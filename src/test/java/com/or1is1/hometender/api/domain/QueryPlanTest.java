@@ -0,0 +1,45 @@
+package com.or1is1.hometender.api.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 로 만든 스키마에서 주요 조회 경로가 인덱스를 타는지 확인한다
+@DataJpaTest
+class QueryPlanTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"select * from ingredient where member_id = 1",
+			"select * from ingredient where ingredient_id = 1 and member_id = 1",
+			"select * from recipe where member_id = 1",
+			"select * from recipe where recipe_id = 1 and member_id = 1",
+			"select * from recipe_ingredient where recipe_id = 1",
+			"select * from recipe_ingredient where sub_recipe_id = 1",
+			"select * from shelf where writer_id = 1",
+			"select * from shelf where writer_id = 1 and ingredient_id = 1",
+			"select * from bookmark where writer_id = 1",
+			"select * from bookmark where writer_id = 1 and recipe_id = 1",
+			"select * from member where login_id = 'loginId'",
+			"select * from change_log where member_id = 1 and seq > 0 order by seq",
+			"select * from change_log where member_id = 1 and entity_type = 'RECIPE' and entity_id = 1"
+	})
+	@DisplayName("주요 조회는 전체 스캔하지 않음")
+	void explain(String sql) {
+		// when
+		List<String> plan = jdbcTemplate.queryForList("explain " + sql, String.class);
+
+		// then
+		assertThat(String.join("\n", plan)).doesNotContainIgnoringCase("tableScan");
+	}
+}
@@ -0,0 +1,118 @@
+package com.or1is1.hometender.api.domain.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.dto.BatchRequest;
+import com.or1is1.hometender.api.dto.BatchResponse;
+import com.or1is1.hometender.api.dto.IngredientDto;
+import com.or1is1.hometender.api.dto.PostMemberRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.or1is1.hometender.api.domain.batch.BatchService.SC_FAILED_DEPENDENCY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpMethod.POST;
+
+// 하위 요청은 서블릿 컨테이너에 등록된 DispatcherServlet 으로 보내므로 MockMvc 대신 실제 서버로 확인한다
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class BatchIntegrationTest {
+
+	@Autowired
+	TestRestTemplate restTemplate;
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("묶음 요청 - 같은 회원으로 실행하고 dependsOn 이 실패하면 실행하지 않는다")
+	void post() {
+		// given
+		HttpHeaders httpHeaders = signUp(new PostMemberRequest("batchUser", "password", "nickname"));
+		IngredientDto ingredientDto = new IngredientDto("진", "노간주나무 열매 향", 40L);
+
+		List<BatchRequest> batchRequestList = List.of(
+				new BatchRequest("member", "GET", "/api/members", null, null),
+				new BatchRequest("postIngredient", "POST", "/api/ingredients", objectMapper.valueToTree(ingredientDto), null),
+				new BatchRequest("ingredientList", "GET", "/api/ingredients", null, List.of("postIngredient")),
+				new BatchRequest("missingRecipe", "GET", "/api/recipe/0", null, null),
+				new BatchRequest("recipeList", "GET", "/api/recipe", null, List.of("missingRecipe"))
+		);
+
+		// when
+		ResponseEntity<BatchResponse[]> responseEntity = restTemplate.exchange("/api/batch", POST,
+				new HttpEntity<>(batchRequestList, httpHeaders), BatchResponse[].class);
+
+		// then
+		assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
+
+		Map<String, BatchResponse> batchResponseMap = Arrays.stream(responseEntity.getBody())
+				.collect(Collectors.toMap(BatchResponse::id, Function.identity()));
+
+		assertThat(batchResponseMap.get("member").status()).isEqualTo(200);
+		assertThat(batchResponseMap.get("member").body().get("nickname").asText()).isEqualTo("nickname");
+		assertThat(batchResponseMap.get("postIngredient").status()).isEqualTo(200);
+		assertThat(batchResponseMap.get("ingredientList").body().findValuesAsText("name")).contains(ingredientDto.name());
+		assertThat(batchResponseMap.get("missingRecipe").status()).isEqualTo(400);
+		assertThat(batchResponseMap.get("recipeList").status()).isEqualTo(SC_FAILED_DEPENDENCY);
+	}
+
+	@Test
+	@DisplayName("묶음 요청 - 뒤에 나오는 요청에 의존하거나 로그인 상태를 바꾸는 요청은 거절")
+	void isAllowed() {
+		// given when then
+		assertThat(BatchService.isAllowed("GET", "/api/recipe?page=1")).isTrue();
+		assertThat(BatchService.isAllowed("GET", "/api/members")).isTrue();
+		assertThat(BatchService.isAllowed("POST", "/api/members/login")).isFalse();
+		assertThat(BatchService.isAllowed("POST", "/api/batch")).isFalse();
+		assertThat(BatchService.isAllowed("GET", "/actuator/prometheus")).isFalse();
+		assertThat(BatchService.isAllowed("GET", "/api/../actuator/health")).isFalse();
+	}
+
+	@Test
+	@DisplayName("묶음 요청 - 하위 요청은 원래 요청이 재사용되어도 만들 때의 헤더와 주소를 쓴다")
+	void subRequestCopiesRequest() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/batch");
+		request.addHeader("X-Forwarded-For", "10.0.0.1");
+		request.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+		request.setRemoteAddr("10.0.0.2");
+		request.setScheme("https");
+		request.setServerName("hometender.example");
+
+		BatchSubRequest subRequest = new BatchSubRequest(request, "GET", "/api/recipe?page=1", null);
+
+		// when
+		request.removeHeader("X-Forwarded-For");
+		request.setRemoteAddr("10.0.0.3");
+		request.setScheme("http");
+		request.setServerName("localhost");
+
+		// then
+		assertThat(subRequest.getHeader("x-forwarded-for")).isEqualTo("10.0.0.1");
+		assertThat(subRequest.getHeader(HttpHeaders.CONTENT_TYPE)).isNull();
+		assertThat(subRequest.getHeader(HttpHeaders.ACCEPT)).isEqualTo("application/json");
+		assertThat(subRequest.getRemoteAddr()).isEqualTo("10.0.0.2");
+		assertThat(subRequest.getRequestURL().toString()).isEqualTo("https://hometender.example:80/api/recipe");
+	}
+
+	private HttpHeaders signUp(PostMemberRequest postMemberRequest) {
+		ResponseEntity<String> responseEntity = restTemplate.postForEntity("/api/members", postMemberRequest, String.class);
+
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.add(HttpHeaders.COOKIE, responseEntity.getHeaders().getFirst(HttpHeaders.SET_COOKIE).split(";", 2)[0]);
+
+		return httpHeaders;
+	}
+}
@@ -0,0 +1,152 @@
+package com.or1is1.hometender.api.domain.bookmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.dto.IngredientDto;
+import com.or1is1.hometender.api.dto.PostMemberRequest;
+import com.or1is1.hometender.api.dto.RecipeDto;
+import com.or1is1.hometender.api.dto.RecipeIngredientDto;
+import com.or1is1.hometender.api.support.QueryCounter;
+import com.or1is1.hometender.api.support.QueryCounter.QueryCount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.or1is1.hometender.api.domain.recipe.CraftMethod.BUILD;
+import static com.or1is1.hometender.api.domain.recipe.SizeType.OZ;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class BookmarkIntegrationTest {
+	private final String url;
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	ObjectMapper objectMapper;
+	@Autowired
+	EntityManager entityManager;
+
+	private MockHttpSession mockHttpSession;
+
+	public BookmarkIntegrationTest() {
+		url = "/api/bookmark";
+	}
+
+	@BeforeEach
+	public void beforeEach() {
+		mockHttpSession = new MockHttpSession();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 5})
+	@DisplayName("즐겨찾기 목록 조회 - 즐겨찾기 수와 관계없이 select 는 2번 이하")
+	void getList(int bookmarkCount) throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("bookmarker" + bookmarkCount, "password", "nickname");
+		mockMvc.perform(post("/api/members")
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		Long ingredientId1 = postAndGetId("/api/ingredients", new IngredientDto("스카치 위스키", "스코틀랜드의 위스키이다.", 40L));
+		Long ingredientId2 = postAndGetId("/api/ingredients", new IngredientDto("드람뷔", "꿀처럼 단, 허브 리큐르이다.", 40L));
+
+		List<RecipeIngredientDto> recipeIngredientDtoList = List.of(
+				new RecipeIngredientDto(ingredientId1, null, 0, 2, OZ, false),
+				new RecipeIngredientDto(ingredientId2, null, 0, 1, OZ, false)
+		);
+
+		for (int i = 0; i < bookmarkCount; i++) {
+			RecipeDto recipeDto = new RecipeDto("러스티 네일" + i, "녹슨 못", BUILD, recipeIngredientDtoList, "맛있다.");
+			Long recipeId = postAndGetId("/api/recipe", recipeDto);
+
+			mockMvc.perform(post(url + "/" + recipeId)
+					.session(mockHttpSession));
+		}
+
+		// 지연 로딩이 1차 캐시에 가려지지 않도록 비운다
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		QueryCount queryCount = QueryCounter.count(() -> mockMvc.perform(get(url)
+						.session(mockHttpSession))
+				.andExpectAll(
+						status().isOk(),
+						jsonPath("$.length()").value(bookmarkCount),
+						jsonPath("$[0].recipeIngredientList.length()").value(2)
+				));
+
+		// then
+		assertThat(queryCount.getSelect()).as(queryCount.toString()).isLessThanOrEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 5})
+	@DisplayName("즐겨찾기 목록 조회 - fields=name 이면 재료를 조회하지 않고 이름만 응답")
+	void getListWithFields(int bookmarkCount) throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("fieldsReader" + bookmarkCount, "password", "fields" + bookmarkCount);
+		mockMvc.perform(post("/api/members")
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		Long ingredientId = postAndGetId("/api/ingredients", new IngredientDto("스카치 위스키", "스코틀랜드의 위스키이다.", 40L));
+		List<RecipeIngredientDto> recipeIngredientDtoList = List.of(new RecipeIngredientDto(ingredientId, null, 0, 2, OZ, false));
+
+		for (int i = 0; i < bookmarkCount; i++) {
+			Long recipeId = postAndGetId("/api/recipe", new RecipeDto("러스티 네일" + i, "녹슨 못", BUILD, recipeIngredientDtoList, "맛있다."));
+
+			mockMvc.perform(post(url + "/" + recipeId)
+					.session(mockHttpSession));
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		QueryCount queryCount = QueryCounter.count(() -> mockMvc.perform(get(url)
+						.param("fields", "name")
+						.session(mockHttpSession))
+				.andExpectAll(
+						status().isOk(),
+						jsonPath("$.length()").value(bookmarkCount),
+						jsonPath("$[0].name").exists(),
+						jsonPath("$[0].manual").doesNotExist(),
+						jsonPath("$[0].recipeIngredientList").doesNotExist()
+				));
+
+		// then
+		assertThat(queryCount.getSelect()).as(queryCount.toString()).isEqualTo(1);
+	}
+
+	private Long postAndGetId(String url, Object body) throws Exception {
+		String id = mockMvc.perform(post(url)
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(body)))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return Long.valueOf(id);
+	}
+}
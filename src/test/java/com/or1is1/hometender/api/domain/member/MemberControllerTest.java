@@ -2,6 +2,8 @@ package com.or1is1.hometender.api.domain.member;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.common.ErrorResponses;
+import com.or1is1.hometender.api.common.RequestMetrics;
 import com.or1is1.hometender.api.dto.DeleteMemberRequest;
 import com.or1is1.hometender.api.dto.LoginMemberRequest;
 import com.or1is1.hometender.api.dto.LoginMemberResult;
@@ -13,6 +15,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -30,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = {MemberController.class}, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import({ErrorResponses.class, RequestMetrics.class})
 class MemberControllerTest {
 	private final String loginId;
 	private final String password;
@@ -1,6 +1,7 @@
 package com.or1is1.hometender.api.domain.member;
 
 import com.or1is1.hometender.api.common.DomainException;
+import com.or1is1.hometender.api.domain.sync.SyncService;
 import com.or1is1.hometender.api.dto.DeleteMemberRequest;
 import com.or1is1.hometender.api.dto.LoginMemberRequest;
 import com.or1is1.hometender.api.dto.LoginMemberResult;
@@ -34,6 +35,8 @@ class MemberServiceTest {
 	private MemberRepository memberRepository;
 	@Mock
 	private PasswordEncoder mockPasswordEncoder;
+	@Mock
+	private SyncService syncService;
 
 	@InjectMocks
 	private MemberService memberService;
@@ -55,6 +58,7 @@ class MemberServiceTest {
 
 		// then
 		verify(memberRepository).save(any(Member.class));
+		verify(syncService).createCursor(any());
 	}
 
 	@Test
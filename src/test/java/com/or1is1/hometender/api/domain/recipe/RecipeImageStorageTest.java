@@ -0,0 +1,70 @@
+package com.or1is1.hometender.api.domain.recipe;
+
+import com.or1is1.hometender.api.common.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.or1is1.hometender.api.common.ErrorCode.RECIPE_IMAGE_TOO_LARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecipeImageStorageTest {
+	@TempDir
+	Path root;
+
+	@Test
+	@DisplayName("레시피 사진 - 가로 x 세로가 한도를 넘으면 거절")
+	void tooManyPixels() throws IOException {
+		// given
+		RecipeImageStorage recipeImageStorage = new RecipeImageStorage(root.toString(), DataSize.ofMegabytes(1),
+				10_000, 32, Duration.ZERO);
+		byte[] png = png(20, 1_000);
+
+		// when then
+		assertThatThrownBy(() -> recipeImageStorage.store(new ByteArrayInputStream(png), png.length))
+				.isExactlyInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("code", RECIPE_IMAGE_TOO_LARGE);
+	}
+
+	@Test
+	@DisplayName("레시피 사진 - 지우면 원본과 썸네일을 함께, 방금 올라온 원본은 남긴다")
+	void delete() throws IOException {
+		// given
+		RecipeImageStorage recipeImageStorage = new RecipeImageStorage(root.toString(), DataSize.ofMegabytes(1),
+				1_000_000, 32, Duration.ZERO);
+		RecipeImageStorage graceStorage = new RecipeImageStorage(root.toString(), DataSize.ofMegabytes(1),
+				1_000_000, 32, Duration.ofMinutes(10));
+		byte[] png = png(64, 48);
+
+		RecipeImage image = recipeImageStorage.store(new ByteArrayInputStream(png), png.length);
+		Path original = recipeImageStorage.original(image);
+		Path thumbnail = recipeImageStorage.thumbnail(image);
+
+		// when
+		boolean deletedInGrace = graceStorage.delete(image.hash());
+		boolean deleted = recipeImageStorage.delete(image.hash());
+
+		// then
+		assertThat(deletedInGrace).isFalse();
+		assertThat(deleted).isTrue();
+		assertThat(original).doesNotExist();
+		assertThat(thumbnail).doesNotExist();
+	}
+
+	private static byte[] png(int width, int height) throws IOException {
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", png);
+
+		return png.toByteArray();
+	}
+}
@@ -1,12 +1,16 @@
 package com.or1is1.hometender.api.domain.recipe;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.or1is1.hometender.api.dto.IngredientDto;
 import com.or1is1.hometender.api.domain.member.MemberService;
 import com.or1is1.hometender.api.dto.PostMemberRequest;
 import com.or1is1.hometender.api.dto.RecipeDto;
 import com.or1is1.hometender.api.dto.RecipeIngredientDto;
+import com.or1is1.hometender.api.support.QueryCounter;
+import com.or1is1.hometender.api.support.QueryCounter.QueryCount;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,19 +19,41 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static com.or1is1.hometender.api.common.ContentFormat.CBOR;
+import static com.or1is1.hometender.api.common.ContentFormat.SMILE;
+import static com.or1is1.hometender.api.common.ErrorCode.MEMBER_NEED_TO_LOGIN;
+import static com.or1is1.hometender.api.common.ErrorCode.RECIPE_INGREDIENT_IS_CIRCULAR;
+import static com.or1is1.hometender.api.common.ErrorCode.RECIPE_IS_IN_USE;
 import static com.or1is1.hometender.api.domain.recipe.CraftMethod.BUILD;
+import static com.or1is1.hometender.api.domain.recipe.SizeType.ML;
 import static com.or1is1.hometender.api.domain.recipe.SizeType.OZ;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.IMAGE_PNG;
+import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -49,6 +75,8 @@ class RecipeIntegrationTest {
 	MemberService MemberService;
 	@Autowired
 	MemberService RecipeService;
+	@Autowired
+	EntityManager entityManager;
 
 	private MockHttpSession mockHttpSession;
 
@@ -89,22 +117,16 @@ class RecipeIntegrationTest {
 		content = objectMapper.writeValueAsString(ingredient1);
 
 		// 재료 추가 1
-		mockMvc.perform(post("/api/ingredients")
-				.contentType(APPLICATION_JSON)
-				.session(mockHttpSession)
-				.content(content));
+		Long ingredientId1 = postAndGetId("/api/ingredients", content);
 
 		IngredientDto ingredient2 = new IngredientDto("드람뷔", "꿀처럼 단, 허브 리큐르이다.", 40L);
 		content = objectMapper.writeValueAsString(ingredient2);
 
 		// 재료 추가 2
-		mockMvc.perform(post("/api/ingredients")
-				.contentType(APPLICATION_JSON)
-				.session(mockHttpSession)
-				.content(content));
+		Long ingredientId2 = postAndGetId("/api/ingredients", content);
 
-		RecipeIngredientDto recipeIngredientDto1 = new RecipeIngredientDto(1L, ingredient1.name(), ingredient1.volume(), 2, OZ, false);
-		RecipeIngredientDto recipeIngredientDto2 = new RecipeIngredientDto(2L, ingredient2.name(), ingredient2.volume(), 1, OZ, false);
+		RecipeIngredientDto recipeIngredientDto1 = new RecipeIngredientDto(ingredientId1, ingredient1.name(), ingredient1.volume(), 2, OZ, false);
+		RecipeIngredientDto recipeIngredientDto2 = new RecipeIngredientDto(ingredientId2, ingredient2.name(), ingredient2.volume(), 1, OZ, false);
 
 		List<RecipeIngredientDto> recipeIngredientDtoList = new ArrayList<>();
 		recipeIngredientDtoList.add(recipeIngredientDto1);
@@ -114,21 +136,15 @@ class RecipeIntegrationTest {
 		content = objectMapper.writeValueAsString(rustyNail);
 
 		// 레시피 추가
-		mockMvc.perform(post(recipeUrl)
-				.contentType(APPLICATION_JSON)
-				.session(mockHttpSession)
-				.content(content));
+		Long recipeId = postAndGetId(recipeUrl, content);
 
 		IngredientDto ingredient3 = new IngredientDto("디사론노", "아몬드 리큐르이다.", 28L);
 		content = objectMapper.writeValueAsString(ingredient3);
 
 		// 재료 추가 3
-		mockMvc.perform(post("/api/ingredients")
-				.contentType(APPLICATION_JSON)
-				.session(mockHttpSession)
-				.content(content));
+		Long ingredientId3 = postAndGetId("/api/ingredients", content);
 
-		RecipeIngredientDto recipeIngredientDto3 = new RecipeIngredientDto(3L, ingredient3.name(), ingredient3.volume(), 2, OZ, false);
+		RecipeIngredientDto recipeIngredientDto3 = new RecipeIngredientDto(ingredientId3, ingredient3.name(), ingredient3.volume(), 2, OZ, false);
 
 		recipeIngredientDtoList.clear();
 		recipeIngredientDtoList.add(recipeIngredientDto1);
@@ -138,7 +154,7 @@ class RecipeIntegrationTest {
 		content = objectMapper.writeValueAsString(godFather);
 
 		// when
-		ResultActions resultActions = mockMvc.perform(put(recipeUrl + "/1")
+		ResultActions resultActions = mockMvc.perform(put(recipeUrl + "/" + recipeId)
 				.contentType(APPLICATION_JSON)
 				.session(mockHttpSession)
 				.content(content));
@@ -148,4 +164,265 @@ class RecipeIntegrationTest {
 				status().isOk()
 		);
 	}
+
+	@Test
+	@DisplayName("레시피 추가 - 재료 12개도 INSERT 는 배치 2번과 변경 기록 1번")
+	@Transactional
+	void postRecipeWithManyIngredients() throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("batchWriter", password, nickname);
+
+		mockMvc.perform(post(memberUrl)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		List<RecipeIngredientDto> recipeIngredientDtoList = new ArrayList<>();
+
+		for (int i = 0; i < 12; i++) {
+			IngredientDto ingredientDto = new IngredientDto("재료" + i, "설명", 40L);
+			Long ingredientId = postAndGetId("/api/ingredients", objectMapper.writeValueAsString(ingredientDto));
+
+			recipeIngredientDtoList.add(new RecipeIngredientDto(ingredientId, ingredientDto.name(), ingredientDto.volume(), 1, OZ, false));
+		}
+
+		String content = objectMapper.writeValueAsString(new RecipeDto("롱 아일랜드", "재료가 많다", BUILD, recipeIngredientDtoList, "섞는다."));
+
+		// 테스트 트랜잭션 안에서는 커밋 시점의 flush 가 없으므로 직접 flush 한다
+		entityManager.flush();
+
+		// when
+		QueryCount queryCount = QueryCounter.count(() -> {
+			postAndGetId(recipeUrl, content);
+			entityManager.flush();
+		});
+
+		// then
+		// recipe, recipe_ingredient(배치), change_log
+		assertThat(queryCount.getInsert()).as(queryCount.toString()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("레시피 상세 - Accept 가 CBOR 이면 같은 DTO 를 CBOR 로")
+	@Transactional
+	void getRecipeDetailAsCbor() throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("cborReader", password, nickname);
+
+		mockMvc.perform(post(memberUrl)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		IngredientDto ingredientDto = new IngredientDto("진", "노간주나무 열매 향", 40L);
+		Long ingredientId = postAndGetId("/api/ingredients", objectMapper.writeValueAsString(ingredientDto));
+
+		RecipeIngredientDto recipeIngredientDto = new RecipeIngredientDto(ingredientId, ingredientDto.name(), ingredientDto.volume(), 2, OZ, false);
+		RecipeDto martini = new RecipeDto("마티니", "칵테일의 왕", BUILD, List.of(recipeIngredientDto), "젓는다.");
+		Long recipeId = postAndGetId(recipeUrl, objectMapper.writeValueAsString(martini));
+
+		// when
+		ResultActions resultActions = mockMvc.perform(get(recipeUrl + "/" + recipeId)
+				.accept(APPLICATION_CBOR)
+				.session(mockHttpSession));
+
+		// then
+		byte[] body = resultActions.andExpectAll(
+						status().isOk(),
+						content().contentType(APPLICATION_CBOR)
+				)
+				.andReturn()
+				.getResponse()
+				.getContentAsByteArray();
+
+		RecipeDto recipeDto = CBOR.mapper(objectMapper).readValue(body, RecipeDto.class);
+		assertThat(recipeDto.name()).isEqualTo(martini.name());
+		assertThat(recipeDto.recipeIngredientList()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("레시피 사진 - 원본, 구간 요청, 썸네일")
+	@Transactional
+	void recipeImage() throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("imageWriter", password, "imgWriter");
+
+		mockMvc.perform(post(memberUrl)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		RecipeDto negroni = new RecipeDto("네그로니", "쓴맛", BUILD, List.of(), "젓는다.");
+		Long recipeId = postAndGetId(recipeUrl, objectMapper.writeValueAsString(negroni));
+
+		BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", png);
+
+		// when
+		mockMvc.perform(put(recipeUrl + "/" + recipeId + "/image")
+						.contentType(IMAGE_PNG)
+						.session(mockHttpSession)
+						.content(png.toByteArray()))
+				.andExpect(status().isOk());
+
+		MockHttpServletResponse original = mockMvc.perform(get(recipeUrl + "/" + recipeId + "/image")
+						.session(mockHttpSession))
+				.andReturn()
+				.getResponse();
+		MockHttpServletResponse range = mockMvc.perform(get(recipeUrl + "/" + recipeId + "/image")
+						.header(RANGE, "bytes=0-7")
+						.session(mockHttpSession))
+				.andReturn()
+				.getResponse();
+		MockHttpServletResponse thumbnail = mockMvc.perform(get(recipeUrl + "/" + recipeId + "/image")
+						.param("thumbnail", "true")
+						.session(mockHttpSession))
+				.andReturn()
+				.getResponse();
+
+		// then
+		assertThat(original.getContentType()).isEqualTo(IMAGE_PNG_VALUE);
+		assertThat(original.getContentAsByteArray()).isEqualTo(png.toByteArray());
+
+		assertThat(range.getStatus()).isEqualTo(206);
+		assertThat(range.getHeader(CONTENT_RANGE)).isEqualTo("bytes 0-7/" + png.size());
+		assertThat(range.getContentAsByteArray()).isEqualTo(Arrays.copyOf(png.toByteArray(), 8));
+
+		BufferedImage thumbnailImage = ImageIO.read(new ByteArrayInputStream(thumbnail.getContentAsByteArray()));
+		assertThat(thumbnailImage.getWidth()).isEqualTo(320);
+		assertThat(thumbnailImage.getHeight()).isEqualTo(240);
+	}
+
+	// 전개 캐시는 커밋 후에 지워지므로 트랜잭션 없이 실행한다
+	@Test
+	@DisplayName("레시피 전개 - 하위 레시피는 넣은 양만큼 풀고, 하위 레시피를 고치면 다시 전개한다")
+	void recipeExpansion() throws Exception {
+		// given
+		PostMemberRequest postMemberRequest = new PostMemberRequest("expansionWriter", password, "expWriter");
+
+		mockMvc.perform(post(memberUrl)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+
+		IngredientDto gin = new IngredientDto("진", "노간주나무 열매 향", 40L);
+		Long ginId = postAndGetId("/api/ingredients", objectMapper.writeValueAsString(gin));
+
+		IngredientDto water = new IngredientDto("물", "희석용", 0L);
+		Long waterId = postAndGetId("/api/ingredients", objectMapper.writeValueAsString(water));
+
+		// 진과 물을 반씩 섞은 20도 인퓨전
+		RecipeDto infusion = new RecipeDto("진 인퓨전", "하우스 인퓨전", BUILD, List.of(
+				new RecipeIngredientDto(ginId, gin.name(), gin.volume(), 30, ML, false),
+				new RecipeIngredientDto(waterId, water.name(), water.volume(), 30, ML, false)
+		), "담가 둔다.");
+		Long infusionId = postAndGetId(recipeUrl, objectMapper.writeValueAsString(infusion));
+
+		RecipeDto highball = new RecipeDto("하이볼", "인퓨전 하이볼", BUILD, List.of(
+				new RecipeIngredientDto(null, infusion.name(), 0, 60, ML, false, infusionId),
+				new RecipeIngredientDto(waterId, water.name(), water.volume(), 60, ML, false)
+		), "붓는다.");
+		Long highballId = postAndGetId(recipeUrl, objectMapper.writeValueAsString(highball));
+
+		// when
+		JsonNode before = getExpansion(highballId);
+
+		RecipeDto strongInfusion = new RecipeDto("진 인퓨전", "하우스 인퓨전", BUILD, List.of(
+				new RecipeIngredientDto(ginId, gin.name(), gin.volume(), 60, ML, false)
+		), "담가 둔다.");
+
+		mockMvc.perform(put(recipeUrl + "/" + infusionId)
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(strongInfusion)))
+				.andExpect(status().isOk());
+
+		JsonNode after = getExpansion(highballId);
+
+		RecipeDto circularInfusion = new RecipeDto("진 인퓨전", "하우스 인퓨전", BUILD, List.of(
+				new RecipeIngredientDto(null, highball.name(), 0, 60, ML, false, highballId)
+		), "담가 둔다.");
+
+		MockHttpServletResponse circular = mockMvc.perform(put(recipeUrl + "/" + infusionId)
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(circularInfusion)))
+				.andReturn()
+				.getResponse();
+
+		MockHttpServletResponse inUse = mockMvc.perform(delete(recipeUrl + "/" + infusionId)
+						.session(mockHttpSession))
+				.andReturn()
+				.getResponse();
+
+		// then
+		// 인퓨전 60ml 는 진 30ml + 물 30ml, 여기에 물 60ml
+		assertThat(before.get("size").floatValue()).isEqualTo(120f);
+		assertThat(before.get("volume").floatValue()).isEqualTo(10f);
+		assertThat(before.get("ingredientList").get(0).get("ingredientId").asLong()).isEqualTo(ginId);
+		assertThat(before.get("ingredientList").get(0).get("size").floatValue()).isEqualTo(30f);
+		assertThat(before.get("ingredientList").get(1).get("ingredientId").asLong()).isEqualTo(waterId);
+		assertThat(before.get("ingredientList").get(1).get("size").floatValue()).isEqualTo(90f);
+
+		// 인퓨전을 진만으로 바꾸면 하이볼도 다시 전개된다
+		assertThat(after.get("volume").floatValue()).isEqualTo(20f);
+		assertThat(after.get("ingredientList").get(0).get("size").floatValue()).isEqualTo(60f);
+		assertThat(after.get("ingredientList").get(1).get("size").floatValue()).isEqualTo(60f);
+
+		assertThat(circular.getStatus()).isEqualTo(400);
+		assertThat(objectMapper.readTree(circular.getContentAsByteArray()).get("code"))
+				.isEqualTo(objectMapper.valueToTree(RECIPE_INGREDIENT_IS_CIRCULAR));
+
+		assertThat(inUse.getStatus()).isEqualTo(400);
+		assertThat(objectMapper.readTree(inUse.getContentAsByteArray()).get("code"))
+				.isEqualTo(objectMapper.valueToTree(RECIPE_IS_IN_USE));
+	}
+
+	@Test
+	@DisplayName("로그인 필요 - 오류 응답도 Accept 에 맞춰 Smile 로")
+	void needToLoginAsSmile() throws Exception {
+		// given
+		MediaType smile = SMILE.getMediaType();
+
+		// when
+		ResultActions resultActions = mockMvc.perform(get(recipeUrl)
+				.accept(smile));
+
+		// then
+		byte[] body = resultActions.andExpectAll(
+						status().isBadRequest(),
+						content().contentType(smile)
+				)
+				.andReturn()
+				.getResponse()
+				.getContentAsByteArray();
+
+		JsonNode errorResponse = SMILE.mapper(objectMapper).readTree(body);
+		assertThat(errorResponse.get("code")).isEqualTo(objectMapper.valueToTree(MEMBER_NEED_TO_LOGIN));
+	}
+
+	private JsonNode getExpansion(Long recipeId) throws Exception {
+		byte[] body = mockMvc.perform(get(recipeUrl + "/" + recipeId + "/expansion")
+						.session(mockHttpSession))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsByteArray();
+
+		return objectMapper.readTree(body);
+	}
+
+	// id 는 생성 시각과 노드 번호로 정해지므로 값을 가정하지 않는다
+	private Long postAndGetId(String url, String content) throws Exception {
+		String id = mockMvc.perform(post(url)
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(content))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return Long.valueOf(id);
+	}
 }
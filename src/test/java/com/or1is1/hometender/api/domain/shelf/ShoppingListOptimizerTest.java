@@ -0,0 +1,92 @@
+package com.or1is1.hometender.api.domain.shelf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShoppingListOptimizerTest {
+	private ShoppingListOptimizer optimizer;
+
+	@AfterEach
+	public void afterEach() {
+		optimizer.shutdown();
+	}
+
+	@Test
+	@DisplayName("장보기 추천 - 두 병으로 레시피 셋")
+	void optimize() {
+		// given
+		optimizer = new ShoppingListOptimizer(2, Duration.ofSeconds(5), 4, 2);
+
+		Map<Long, List<Long>> missingByRecipe = new LinkedHashMap<>();
+		missingByRecipe.put(100L, List.of(1L, 2L));
+		missingByRecipe.put(101L, List.of(1L, 2L));
+		missingByRecipe.put(102L, List.of(3L));
+		missingByRecipe.put(103L, List.of(4L));
+		missingByRecipe.put(104L, List.of(2L));
+		missingByRecipe.put(105L, List.of(1L, 2L, 3L));
+		missingByRecipe.put(106L, List.of());
+
+		// when
+		ShoppingList shoppingList = optimizer.optimize(missingByRecipe, 2);
+
+		// then
+		assertThat(shoppingList.ingredientIdList()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(shoppingList.recipeIdList()).containsExactlyInAnyOrder(100L, 101L, 104L);
+		assertThat(shoppingList.complete()).isTrue();
+	}
+
+	@Test
+	@DisplayName("장보기 추천 - 처음 고른 묶음보다 나중 조합이 더 많이 여는 경우")
+	void optimizeBeyondGreedy() {
+		// given
+		optimizer = new ShoppingListOptimizer(2, Duration.ofSeconds(5), 4, 2);
+
+		// 탐욕법은 점수가 가장 높은 (1, 2) 로 레시피 셋을 열고 남은 한 병으로 하나를 더 연다
+		// (3, 4, 5) 는 어느 묶음도 점수가 (1, 2) 보다 낮지만 세 병으로 레시피 다섯을 연다
+		Map<Long, List<Long>> missingByRecipe = new LinkedHashMap<>();
+		missingByRecipe.put(100L, List.of(1L, 2L));
+		missingByRecipe.put(101L, List.of(1L, 2L));
+		missingByRecipe.put(102L, List.of(1L, 2L));
+		missingByRecipe.put(103L, List.of(6L));
+		missingByRecipe.put(110L, List.of(3L, 4L));
+		missingByRecipe.put(111L, List.of(3L, 4L));
+		missingByRecipe.put(112L, List.of(3L, 5L));
+		missingByRecipe.put(113L, List.of(3L, 5L));
+		missingByRecipe.put(114L, List.of(4L, 5L));
+
+		// when
+		ShoppingList shoppingList = optimizer.optimize(missingByRecipe, 3);
+
+		// then
+		assertThat(shoppingList.ingredientIdList()).containsExactlyInAnyOrder(3L, 4L, 5L);
+		assertThat(shoppingList.recipeIdList()).containsExactlyInAnyOrder(110L, 111L, 112L, 113L, 114L);
+	}
+
+	@Test
+	@DisplayName("장보기 추천 - 시간 예산이 지나면 예산 안의 중간 결과")
+	void optimizeWithinTimeBudget() {
+		// given
+		optimizer = new ShoppingListOptimizer(2, Duration.ZERO, 4, 2);
+
+		Map<Long, List<Long>> missingByRecipe = new LinkedHashMap<>();
+
+		for (long recipeId = 0; recipeId < 1000; recipeId++) {
+			missingByRecipe.put(recipeId, List.of(recipeId % 50, (recipeId * 7) % 50 + 50));
+		}
+
+		// when
+		ShoppingList shoppingList = optimizer.optimize(missingByRecipe, 5);
+
+		// then
+		assertThat(shoppingList.complete()).isFalse();
+		assertThat(shoppingList.ingredientIdList().size()).isLessThanOrEqualTo(5);
+	}
+}
@@ -0,0 +1,159 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionTest {
+
+	@Test
+	@DisplayName("SSE 연결 - 큐가 넘치면 쌓인 알림 대신 resync 하나")
+	void overflow() {
+		// given
+		List<Runnable> tasks = new ArrayList<>();
+		RecordingEmitter emitter = new RecordingEmitter(false);
+		SseConnection connection = new SseConnection(1L, emitter, 2, tasks::add, closed -> {
+		});
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			connection.send(SseEmitter.event().name("change").data(i));
+		}
+
+		tasks.forEach(Runnable::run);
+
+		// then
+		assertThat(tasks).hasSize(1);
+		assertThat(emitter.sent).hasSize(1);
+		assertThat(emitter.sent.get(0)).contains("event:resync");
+	}
+
+	@Test
+	@DisplayName("SSE 연결 - 보내기에 실패하면 한 번만 닫힌다")
+	void closeOnError() {
+		// given
+		List<Runnable> tasks = new ArrayList<>();
+		AtomicInteger closeCount = new AtomicInteger();
+		SseConnection connection = new SseConnection(1L, new RecordingEmitter(true), 4, tasks::add,
+				closed -> closeCount.incrementAndGet());
+
+		// when
+		connection.send(SseEmitter.event().comment("ping"));
+		connection.send(SseEmitter.event().comment("ping"));
+		tasks.forEach(Runnable::run);
+		connection.close();
+
+		// then
+		assertThat(closeCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("SSE 연결 - 보내기가 write timeout 을 넘게 막히면 끊고, 늦게 보내지면 emitter 를 닫는다")
+	void abortIfStalled() throws Exception {
+		// given
+		ExecutorService sender = Executors.newSingleThreadExecutor();
+		StalledEmitter emitter = new StalledEmitter();
+		AtomicInteger closeCount = new AtomicInteger();
+		SseConnection connection = new SseConnection(1L, emitter, 4, sender, closed -> closeCount.incrementAndGet());
+		long writeTimeout = SECONDS.toNanos(10);
+
+		try {
+			connection.send(SseEmitter.event().comment("ping"));
+			assertThat(emitter.sending.await(5, SECONDS)).isTrue();
+
+			// when
+			boolean notYet = connection.abortIfStalled(System.nanoTime(), writeTimeout);
+			boolean aborted = connection.abortIfStalled(System.nanoTime() + writeTimeout * 2, writeTimeout);
+			connection.send(SseEmitter.event().comment("ping"));
+			emitter.release.countDown();
+			sender.shutdown();
+
+			// then
+			assertThat(sender.awaitTermination(5, SECONDS)).isTrue();
+			assertThat(notYet).isFalse();
+			assertThat(aborted).isTrue();
+			assertThat(closeCount).hasValue(1);
+			assertThat(emitter.sendCount).hasValue(1);
+			assertThat(emitter.completed).isTrue();
+		} finally {
+			sender.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("SSE 연결 - 보낼 스레드가 없으면 끊는다")
+	void closeOnRejected() {
+		// given
+		AtomicInteger closeCount = new AtomicInteger();
+		SseConnection connection = new SseConnection(1L, new RecordingEmitter(false), 4, command -> {
+			throw new RejectedExecutionException();
+		}, closed -> closeCount.incrementAndGet());
+
+		// when
+		connection.send(SseEmitter.event().comment("ping"));
+		connection.send(SseEmitter.event().comment("ping"));
+
+		// then
+		assertThat(closeCount).hasValue(1);
+	}
+
+	// 받지 않는 클라이언트, release 될 때까지 보내기가 막힌다
+	private static class StalledEmitter extends SseEmitter {
+		private final CountDownLatch sending = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicInteger sendCount = new AtomicInteger();
+		private volatile boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sendCount.incrementAndGet();
+			sending.countDown();
+
+			try {
+				release.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+		private final boolean broken;
+		private final List<String> sent = new ArrayList<>();
+
+		RecordingEmitter(boolean broken) {
+			this.broken = broken;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (broken) {
+				throw new IOException("broken pipe");
+			}
+
+			sent.add(builder.build().stream()
+					.map(data -> String.valueOf(data.getData()))
+					.collect(Collectors.joining()));
+		}
+	}
+}
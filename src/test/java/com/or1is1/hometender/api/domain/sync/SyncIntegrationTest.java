@@ -0,0 +1,183 @@
+package com.or1is1.hometender.api.domain.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.or1is1.hometender.api.dto.IngredientDto;
+import com.or1is1.hometender.api.dto.PostMemberRequest;
+import com.or1is1.hometender.api.dto.RecipeDto;
+import com.or1is1.hometender.api.dto.RecipeIngredientDto;
+import com.or1is1.hometender.api.dto.SyncResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.or1is1.hometender.api.domain.recipe.CraftMethod.BUILD;
+import static com.or1is1.hometender.api.domain.recipe.SizeType.OZ;
+import static com.or1is1.hometender.api.domain.sync.SyncType.INGREDIENT;
+import static com.or1is1.hometender.api.domain.sync.SyncType.RECIPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SyncIntegrationTest {
+	private final String url;
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	ObjectMapper objectMapper;
+	@Autowired
+	SyncService syncService;
+
+	private MockHttpSession mockHttpSession;
+
+	public SyncIntegrationTest() {
+		url = "/api/sync";
+	}
+
+	@BeforeEach
+	public void beforeEach() {
+		mockHttpSession = new MockHttpSession();
+	}
+
+	@Test
+	@DisplayName("동기화 - 대상마다 마지막 변경만, cursor 이후의 변경만")
+	void get() throws Exception {
+		// given
+		signUp(new PostMemberRequest("syncUser1", "password", "sync1"));
+		Long ingredientId1 = postIngredient(new IngredientDto("진", "노간주나무 열매 향", 40L));
+		Long ingredientId2 = postIngredient(new IngredientDto("보드카", "무색 무취", 40L));
+
+		mockMvc.perform(put("/api/ingredients/" + ingredientId1)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(new IngredientDto("런던 드라이 진", "노간주나무 열매 향", 47L))));
+		mockMvc.perform(delete("/api/ingredients/" + ingredientId2)
+				.session(mockHttpSession));
+
+		// when
+		SyncResponse first = sync(0);
+		Long ingredientId3 = postIngredient(new IngredientDto("럼", "사탕수수", 40L));
+		SyncResponse second = sync(first.cursor());
+
+		// then
+		assertThat(first.changes())
+				.extracting("type", "id", "deleted")
+				.containsExactly(
+						tuple(INGREDIENT, ingredientId1, false),
+						tuple(INGREDIENT, ingredientId2, true)
+				);
+		assertThat(objectMapper.convertValue(first.changes().get(0).data(), IngredientDto.class).name())
+				.isEqualTo("런던 드라이 진");
+
+		assertThat(second.reset()).isFalse();
+		assertThat(second.changes())
+				.extracting("id")
+				.containsExactly(ingredientId3);
+	}
+
+	@Test
+	@DisplayName("동기화 - 지워진 tombstone 보다 오래된 cursor 는 처음부터 다시")
+	void reset() throws Exception {
+		// given
+		signUp(new PostMemberRequest("syncUser2", "password", "sync2"));
+		Long ingredientId1 = postIngredient(new IngredientDto("진", "노간주나무 열매 향", 40L));
+		long staleCursor = sync(0).cursor();
+		Long ingredientId2 = postIngredient(new IngredientDto("보드카", "무색 무취", 40L));
+
+		mockMvc.perform(delete("/api/ingredients/" + ingredientId2)
+				.session(mockHttpSession));
+
+		syncService.compactTombstones(Instant.now().plusSeconds(1));
+
+		// when
+		SyncResponse syncResponse = sync(staleCursor);
+
+		// then
+		assertThat(syncResponse.reset()).isTrue();
+		assertThat(syncResponse.changes())
+				.extracting("id")
+				.containsExactly(ingredientId1);
+	}
+
+	@Test
+	@DisplayName("동기화 - 재료를 고치면 그 재료를 쓰는 레시피도 변경으로")
+	void ingredientUsedByRecipe() throws Exception {
+		// given
+		signUp(new PostMemberRequest("syncUser3", "password", "sync3"));
+		Long ingredientId = postIngredient(new IngredientDto("진", "노간주나무 열매 향", 40L));
+
+		RecipeIngredientDto recipeIngredientDto = new RecipeIngredientDto(ingredientId, "진", 40L, 2, OZ, false);
+		RecipeDto recipeDto = new RecipeDto("진토닉", "상큼함", BUILD, List.of(recipeIngredientDto), "섞는다.");
+		Long recipeId = Long.valueOf(mockMvc.perform(post("/api/recipe")
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(recipeDto)))
+				.andReturn()
+				.getResponse()
+				.getContentAsString());
+
+		long cursor = sync(0).cursor();
+
+		// when
+		mockMvc.perform(put("/api/ingredients/" + ingredientId)
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(new IngredientDto("런던 드라이 진", "노간주나무 열매 향", 47L))));
+		SyncResponse syncResponse = sync(cursor);
+
+		// then
+		assertThat(syncResponse.changes())
+				.extracting("type", "id")
+				.containsExactly(
+						tuple(INGREDIENT, ingredientId),
+						tuple(RECIPE, recipeId)
+				);
+		assertThat(objectMapper.convertValue(syncResponse.changes().get(1).data(), RecipeDto.class)
+				.recipeIngredientList().get(0).ingredientName())
+				.isEqualTo("런던 드라이 진");
+	}
+
+	// 테스트 메서드가 동시에 실행되므로 회원마다 아이디와 닉네임을 다르게 한다
+	private void signUp(PostMemberRequest postMemberRequest) throws Exception {
+		mockMvc.perform(post("/api/members")
+				.contentType(APPLICATION_JSON)
+				.session(mockHttpSession)
+				.content(objectMapper.writeValueAsString(postMemberRequest)));
+	}
+
+	private SyncResponse sync(long cursor) throws Exception {
+		String content = mockMvc.perform(get(url)
+						.param("cursor", String.valueOf(cursor))
+						.session(mockHttpSession))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return objectMapper.readValue(content, SyncResponse.class);
+	}
+
+	private Long postIngredient(IngredientDto ingredientDto) throws Exception {
+		String id = mockMvc.perform(post("/api/ingredients")
+						.contentType(APPLICATION_JSON)
+						.session(mockHttpSession)
+						.content(objectMapper.writeValueAsString(ingredientDto)))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		return Long.valueOf(id);
+	}
+}
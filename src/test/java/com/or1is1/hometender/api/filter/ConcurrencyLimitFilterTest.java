@@ -0,0 +1,67 @@
+package com.or1is1.hometender.api.filter;
+
+import com.or1is1.hometender.api.common.ErrorResponses;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority.LOW;
+import static com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority.NORMAL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+	@Mock
+	private ErrorResponses errorResponses;
+	@Mock
+	private ConcurrencyLimiter concurrencyLimiter;
+
+	@InjectMocks
+	private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+	@Test
+	@DisplayName("가입, 로그인만 낮은 우선순위, 같은 경로의 탈퇴는 로그인한 쓰기")
+	void priority() throws Exception {
+		// given
+		given(concurrencyLimiter.tryAcquire(any())).willReturn(true);
+
+		// when
+		doFilter("POST", "/api/members");
+		doFilter("POST", "/api/members/login");
+		doFilter("DELETE", "/api/members");
+
+		// then
+		verify(concurrencyLimiter, times(2)).tryAcquire(LOW);
+		verify(concurrencyLimiter).tryAcquire(NORMAL);
+	}
+
+	@Test
+	@DisplayName("사진 업로드, 내려받기는 지연 표본으로 쓰지 않음")
+	void streaming() throws Exception {
+		// given
+		given(concurrencyLimiter.tryAcquire(any())).willReturn(true);
+
+		// when
+		doFilter("PUT", "/api/recipe/1/image");
+		doFilter("GET", "/api/recipe/1/image");
+
+		// then
+		verify(concurrencyLimiter, times(2)).release(eq(-1L), anyLong());
+	}
+
+	private void doFilter(String method, String requestURI) throws Exception {
+		concurrencyLimitFilter.doFilter(new MockHttpServletRequest(method, requestURI), new MockHttpServletResponse(),
+				new MockFilterChain());
+	}
+}
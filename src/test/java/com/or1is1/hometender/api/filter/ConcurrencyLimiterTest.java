@@ -0,0 +1,80 @@
+package com.or1is1.hometender.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority.HIGH;
+import static com.or1is1.hometender.api.filter.ConcurrencyLimiter.Priority.LOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+	@Test
+	@DisplayName("우선순위가 낮은 요청은 한도의 절반까지만 허용")
+	void tryAcquire() {
+		// given
+		ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(10, 1, 100, 1.5, 0);
+
+		for (int i = 0; i < 5; i++) {
+			concurrencyLimiter.tryAcquire(LOW);
+		}
+
+		// when then
+		assertThat(concurrencyLimiter.tryAcquire(LOW)).isFalse();
+		assertThat(concurrencyLimiter.tryAcquire(HIGH)).isTrue();
+	}
+
+	@Test
+	@DisplayName("지연 시간이 평소보다 크게 늘면 한도를 줄임")
+	void decrease() {
+		// given
+		ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(20, 1, 100, 1.5, 0);
+		sample(concurrencyLimiter, 1, MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(100));
+
+		// when
+		sample(concurrencyLimiter, 1, MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+
+		// then
+		assertThat(concurrencyLimiter.getLimit()).isLessThan(20);
+	}
+
+	@Test
+	@DisplayName("지연 시간이 그대로이고 한도의 절반 이상을 쓰면 한도를 늘림")
+	void increase() {
+		// given
+		ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(20, 1, 100, 1.5, 0);
+
+		// when
+		sample(concurrencyLimiter, 10, MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(100));
+
+		// then
+		assertThat(concurrencyLimiter.getLimit()).isGreaterThan(20);
+	}
+
+	@Test
+	@DisplayName("한도의 절반도 쓰지 않으면 한도를 늘리지 않음")
+	void appLimited() {
+		// given
+		ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(20, 1, 100, 1.5, 0);
+
+		// when
+		sample(concurrencyLimiter, 1, MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(100));
+
+		// then
+		assertThat(concurrencyLimiter.getLimit()).isEqualTo(20);
+	}
+
+	// 요청 10 개를 concurrency 개씩 동시에 처리해 창 하나를 닫는다
+	private static void sample(ConcurrencyLimiter concurrencyLimiter, int concurrency, long rtt, long now) {
+		for (int i = 0; i < 10; i += concurrency) {
+			for (int j = 0; j < concurrency; j++) {
+				concurrencyLimiter.tryAcquire(HIGH);
+			}
+
+			for (int j = 0; j < concurrency; j++) {
+				concurrencyLimiter.release(rtt, now);
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.or1is1.hometender.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+	@Test
+	@DisplayName("버스트 크기만큼 허용하고 초과 요청은 거절")
+	void tryAcquire() {
+		// given
+		long now = 0;
+		RateLimiter rateLimiter = new RateLimiter(10, 3, now);
+
+		// when then
+		assertThat(rateLimiter.tryAcquire(now)).isTrue();
+		assertThat(rateLimiter.tryAcquire(now)).isTrue();
+		assertThat(rateLimiter.tryAcquire(now)).isTrue();
+		assertThat(rateLimiter.tryAcquire(now)).isFalse();
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 토큰이 다시 채워짐")
+	void refill() {
+		// given
+		long now = 0;
+		RateLimiter rateLimiter = new RateLimiter(10, 1, now);
+		rateLimiter.tryAcquire(now);
+
+		// when then
+		assertThat(rateLimiter.tryAcquire(now + MILLISECONDS.toNanos(50))).isFalse();
+		assertThat(rateLimiter.tryAcquire(now + MILLISECONDS.toNanos(100))).isTrue();
+	}
+
+	@Test
+	@DisplayName("버킷이 다시 가득 차면 유휴 상태")
+	void isIdle() {
+		// given
+		long now = 0;
+		RateLimiter rateLimiter = new RateLimiter(10, 2, now);
+		rateLimiter.tryAcquire(now);
+
+		// when then
+		assertThat(rateLimiter.isIdle(now)).isFalse();
+		assertThat(rateLimiter.isIdle(now + MILLISECONDS.toNanos(100))).isTrue();
+	}
+}
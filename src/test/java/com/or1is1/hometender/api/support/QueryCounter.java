@@ -0,0 +1,88 @@
+package com.or1is1.hometender.api.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+// hibernate.session_factory.statement_inspector 로 등록한다 (src/test/resources/application.properties)
+// 테스트가 병렬로 돌기 때문에 스레드별로 센다, MockMvc 요청은 테스트 스레드에서 실행된다
+public class QueryCounter implements StatementInspector {
+	private static final ThreadLocal<QueryCount> current = ThreadLocal.withInitial(QueryCount::new);
+
+	@Override
+	public String inspect(String sql) {
+		current.get().add(sql);
+
+		return sql;
+	}
+
+	public static void reset() {
+		current.remove();
+	}
+
+	public static QueryCount count(ThrowingRunnable runnable) throws Exception {
+		reset();
+
+		try {
+			runnable.run();
+
+			return current.get();
+		} finally {
+			reset();
+		}
+	}
+
+	@FunctionalInterface
+	public interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+
+	public static class QueryCount {
+		private int select;
+		private int insert;
+		private int update;
+		private int delete;
+		private int other;
+
+		void add(String sql) {
+			String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+
+			if (statement.startsWith("select") || statement.startsWith("with")) {
+				select++;
+			} else if (statement.startsWith("insert")) {
+				insert++;
+			} else if (statement.startsWith("update")) {
+				update++;
+			} else if (statement.startsWith("delete")) {
+				delete++;
+			} else {
+				other++;
+			}
+		}
+
+		public int getSelect() {
+			return select;
+		}
+
+		public int getInsert() {
+			return insert;
+		}
+
+		public int getUpdate() {
+			return update;
+		}
+
+		public int getDelete() {
+			return delete;
+		}
+
+		public int getTotal() {
+			return select + insert + update + delete + other;
+		}
+
+		@Override
+		public String toString() {
+			return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete + ", other=" + other;
+		}
+	}
+}